@@ -12,6 +12,15 @@ import java.security.SecureRandom;
  */
 public class BCCryptoUtils {
 
+    /** Bytes a pooled generator may produce before it mixes in fresh entropy */
+    public static final long RESEED_INTERVAL_BYTES = 1L << 20;
+
+    // System entropy for seeding pooled generators; nextBytes on the platform default does not block
+    private static final SecureRandom ENTROPY = new SecureRandom();
+
+    // One long-lived generator per thread instead of one per polynomial
+    private static final ThreadLocal<PooledGenerator> POOL = ThreadLocal.withInitial(PooledGenerator::new);
+
     /**
      * Compute SHA-256 hash using Bouncy Castle
      */
@@ -67,6 +76,65 @@ public class BCCryptoUtils {
         }
     }
 
+    /**
+     * The calling thread's pooled generator: a DigestRandomGenerator seeded from system entropy on first use and
+     * reseeded every RESEED_INTERVAL_BYTES; use for fresh (non-reproducible) randomness
+     */
+    public static SecureRandom threadLocalRandom() {
+        return POOL.get();
+    }
+
+    /**
+     * Fill bytes[offset, offset + length) from the calling thread's pooled generator
+     */
+    public static void nextBytes(byte[] bytes, int offset, int length) {
+        POOL.get().nextBytes(bytes, offset, length);
+    }
+
+    /**
+     * Thread-confined DRBG: SHA-256 DigestRandomGenerator with entropy-based seeding and byte-count reseeding
+     */
+    private static final class PooledGenerator extends SecureRandom {
+        private static final long serialVersionUID = 1L;
+
+        private final DigestRandomGenerator generator = new DigestRandomGenerator(new SHA256Digest());
+        private long bytesSinceReseed;
+
+        PooledGenerator() {
+            reseed();
+        }
+
+        @Override
+        public void reseed() {
+            byte[] entropy = new byte[32];
+            ENTROPY.nextBytes(entropy);
+            generator.addSeedMaterial(entropy);
+            generator.addSeedMaterial(Thread.currentThread().getId());
+            generator.addSeedMaterial(System.nanoTime());
+            bytesSinceReseed = 0;
+        }
+
+        void nextBytes(byte[] bytes, int offset, int length) {
+            if (bytesSinceReseed >= RESEED_INTERVAL_BYTES) {
+                reseed();
+            }
+            generator.nextBytes(bytes, offset, length);
+            bytesSinceReseed += length;
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            nextBytes(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public byte[] generateSeed(int numBytes) {
+            byte[] seed = new byte[numBytes];
+            nextBytes(seed, 0, numBytes);
+            return seed;
+        }
+    }
+
     /**
      * Generate a cryptographically secure random BigInteger – revised version
      */
@@ -79,6 +147,15 @@ public class BCCryptoUtils {
         return result;
     }
 
+    /**
+     * Generate a cryptographically secure random non-zero field element in [1, p-1] into r[ro]
+     */
+    public static void generateSecureRandomElement(Field field, SecureRandom secureRandom, long[] r, int ro) {
+        do {
+            field.random(secureRandom, r, ro);
+        } while (field.isZero(r, ro));
+    }
+
     /**
      * Generate random seed bytes
      */
@@ -0,0 +1,112 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Reference field backend for an arbitrary prime, computing every operation with BigInteger
+ * Elements use the common little-endian limb layout so the protocol code is shared with the primitive backends;
+ * each operation converts its operands, which makes this backend the slow but obviously-correct baseline
+ */
+public final class BigIntegerField implements Field {
+
+    private final BigInteger p;
+    private final int limbs;
+
+    public BigIntegerField(BigInteger p) {
+        this.p = p;
+        this.limbs = (p.bitLength() + 63) / 64;
+    }
+
+    @Override
+    public String name() {
+        return "BigInteger" + p.bitLength();
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return p;
+    }
+
+    @Override
+    public int limbs() {
+        return limbs;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        writeLimbs(v.mod(p), limbs, r, ro);
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        return readLimbs(a, ao, limbs);
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        r[ro] = v;
+        for (int i = 1; i < limbs; i++) {
+            r[ro + i] = 0;
+        }
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        writeLimbs(toBigInteger(a, ao).add(toBigInteger(b, bo)).mod(p), limbs, r, ro);
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        writeLimbs(toBigInteger(a, ao).subtract(toBigInteger(b, bo)).mod(p), limbs, r, ro);
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        writeLimbs(toBigInteger(a, ao).negate().mod(p), limbs, r, ro);
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        writeLimbs(toBigInteger(a, ao).multiply(toBigInteger(b, bo)).mod(p), limbs, r, ro);
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        writeLimbs(toBigInteger(a, ao).modInverse(p), limbs, r, ro);
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        BigInteger v;
+        do {
+            v = new BigInteger(p.bitLength(), secureRandom);
+        } while (v.compareTo(p) >= 0);
+        writeLimbs(v, limbs, r, ro);
+    }
+
+    // ============================ Limb conversion ============================
+
+    /**
+     * Write a non-negative value below 2^(64·count) as count little-endian limbs
+     */
+    static void writeLimbs(BigInteger v, int count, long[] r, int ro) {
+        for (int i = 0; i < count; i++) {
+            r[ro + i] = v.shiftRight(64 * i).longValue();
+        }
+    }
+
+    /**
+     * Read count little-endian limbs as a non-negative value
+     */
+    static BigInteger readLimbs(long[] a, int ao, int count) {
+        byte[] bytes = new byte[8 * count + 1]; // leading zero byte keeps the value positive
+        for (int i = 0; i < count; i++) {
+            long limb = a[ao + i];
+            for (int b = 0; b < 8; b++) {
+                bytes[8 * count - 8 * i - b] = (byte) (limb >>> (8 * b));
+            }
+        }
+        return new BigInteger(bytes);
+    }
+}
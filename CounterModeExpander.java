@@ -0,0 +1,115 @@
+package code;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+/**
+ * Seekable SHA-256 counter-mode expander that derives field elements straight into limb arrays
+ * Element k is sampled from its own block stream SHA-256(label ‖ seed ‖ k ‖ attempt ‖ block), so any element can be
+ * computed independently of the others: in parallel, out of order, or alone. Rejection sampling retries with the
+ * next attempt counter until the masked words encode a non-zero value below p
+ * The digest state after absorbing label and seed is computed once and restored for every block
+ */
+public final class CounterModeExpander {
+    private static final byte[] LABEL = "DTSS-CTR-SHA256".getBytes(StandardCharsets.US_ASCII);
+    private static final int BLOCK_BYTES = 32;
+    /** Element counts at which fill splits the range over the common pool */
+    private static final int PARALLEL_ELEMENTS = 1024;
+    private static final int CHUNK_ELEMENTS = 256;
+
+    private final SHA256Digest prefix;
+
+    public CounterModeExpander(byte[] seed) {
+        this.prefix = new SHA256Digest();
+        prefix.update(LABEL, 0, LABEL.length);
+        writeInt(seed.length);
+        prefix.update(seed, 0, seed.length);
+    }
+
+    /**
+     * r[ro + m·limbs] = element(first + m) for m < count
+     */
+    public void fill(Field field, long first, int count, long[] r, int ro) {
+        if (count < PARALLEL_ELEMENTS) {
+            new Stream(field).elements(first, count, r, ro);
+            return;
+        }
+        int limbs = field.limbs();
+        int chunks = (count + CHUNK_ELEMENTS - 1) / CHUNK_ELEMENTS;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * CHUNK_ELEMENTS;
+            int size = Math.min(CHUNK_ELEMENTS, count - start);
+            new Stream(field).elements(first + start, size, r, ro + start * limbs);
+        });
+    }
+
+    /**
+     * r[ro] = element index of the expansion: a uniform non-zero field element
+     */
+    public void element(Field field, long index, long[] r, int ro) {
+        new Stream(field).elements(index, 1, r, ro);
+    }
+
+    private void writeInt(int v) {
+        prefix.update((byte) (v >>> 24));
+        prefix.update((byte) (v >>> 16));
+        prefix.update((byte) (v >>> 8));
+        prefix.update((byte) v);
+    }
+
+    /**
+     * Per-call working state: a digest restored from the prefix and the block and word buffers
+     */
+    private final class Stream {
+        private final Field field;
+        private final int limbs;
+        private final int blocks;
+        private final SHA256Digest digest = new SHA256Digest();
+        private final byte[] counter = new byte[16];
+        private final byte[] block = new byte[BLOCK_BYTES];
+        private final long[] words;
+
+        Stream(Field field) {
+            this.field = field;
+            this.limbs = field.limbs();
+            this.blocks = (8 * limbs + BLOCK_BYTES - 1) / BLOCK_BYTES;
+            this.words = new long[blocks * BLOCK_BYTES / 8];
+        }
+
+        void elements(long first, int count, long[] r, int ro) {
+            for (int m = 0; m < count; m++) {
+                long index = first + m;
+                int offset = ro + m * limbs;
+                for (int attempt = 0; ; attempt++) {
+                    for (int b = 0; b < blocks; b++) {
+                        hashBlock(index, attempt, b);
+                        for (int w = 0; w < BLOCK_BYTES / 8; w++) {
+                            words[b * (BLOCK_BYTES / 8) + w] = Fp256Field.bytesToLong(block, 8 * w);
+                        }
+                    }
+                    if (field.fromRandomLimbs(words, 0, r, offset) && !field.isZero(r, offset)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        /**
+         * block = SHA-256(label ‖ seed ‖ index ‖ attempt ‖ b), big-endian counters
+         */
+        private void hashBlock(long index, int attempt, int b) {
+            digest.reset(prefix);
+            for (int i = 0; i < 8; i++) {
+                counter[i] = (byte) (index >>> (56 - 8 * i));
+            }
+            for (int i = 0; i < 4; i++) {
+                counter[8 + i] = (byte) (attempt >>> (24 - 8 * i));
+                counter[12 + i] = (byte) (b >>> (24 - 8 * i));
+            }
+            digest.update(counter, 0, counter.length);
+            digest.doFinal(block, 0);
+        }
+    }
+}
@@ -5,55 +5,102 @@ import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Dynamic-threshold secret-sharing system – Version 9 application – strictly follows the paper
  * Implements all protocols and validations described in Sections 4.1–4.6
+ * All protocol arithmetic goes through a pluggable Field backend; field elements live in flat long[] limb arrays
  */
 public class DynamicThresholdSecretSharingVersion9App {
     // ============================ Experiment configuration ============================
     private static final int NUM_PARTICIPANTS = 20;
     private static final int[] THRESHOLDS = {5,7,9,11,13};
     private static final int NUM_EXPERIMENTS = 1000;
-    private static final int PRIME_BIT_LENGTH = 256;
+    private static final int[] PRIME_BIT_LENGTHS = PrimeCatalog.STANDARD_BIT_LENGTHS; // catalog primes swept like THRESHOLDS
     private static final int INCREASE_THRESHOLDS = 1; // extension degree
     private static final int UP_THRESHOLDS = 3;// threshold increase
+    private static final int CATCH_UP_ROUNDS = 4; // update rounds applied per catch-up, round by round and coalesced
     private static final BigInteger FIXED_256BIT_PRIME = new BigInteger(
             "115792089237316195423570985008687907853269984665640564039457584007908834671663");
+    // Field backends benchmarked side by side; the first one is the default and feeds the chart
+    private static final Field[] FIELD_BACKENDS = {
+            Fp256Field.INSTANCE,
+            new BigIntegerField(FIXED_256BIT_PRIME),
+            Mersenne127Field.INSTANCE,
+            GoldilocksField.INSTANCE
+    };
     private static final int THREAD_POOL_SIZE = THRESHOLDS.length;
+    // Working-share refresh derives only column 0 of the update polynomial; false builds the whole polynomial
+    private static final boolean COLUMN_ONLY_WORKING_REFRESH = true;
+    private static final int QUORUM_MEMO_ENTRIES = 8; // recent quorums whose Lagrange coefficients each thread keeps
 
     // ============================ System state variables ============================
+    private final Field field;
+    private final int limbs;
     private BigInteger p;
     private int n;
     private int currentThreshold;
     private int currentMainThreshold;
     public BigInteger secret;
     private List<BigInteger> participantIDs;
-    private BigInteger previousSeed;
+    private long[] idElements; // participant IDs as field elements
+    private PowerTable idPowers; // ID_i^k, reused by every evaluation at a participant ID
+    private LagrangeCache lagrangeCache; // shared by instances with the same field and participant IDs
+    private long[] zero;       // the field element 0
+    private SeedSchedule seedSchedule; // public per-round update seeds
 
     // ============================ Core system components ============================
     private BivariatePolynomial mainPolynomial;
+    private PairingKeyMatrix pairingKeys; // f(ID_i, ID_j) for the current main polynomial
     private List<UnivariatePolynomial> mainShares;
-    private List<BigInteger> workingShares;
+    private long[] workingShares; // n field elements
+    private ThreadLocal<RecoveryScratch> recoveryScratch; // per-thread recovery buffers and Lagrange engine
     private PerformanceStats stats;
     private boolean verbose;
 
     /**
-     * Constructor: initialises the dynamic-threshold secret-sharing system
+     * Constructor: initialises the dynamic-threshold secret-sharing system over FIXED_256BIT_PRIME
      */
     public DynamicThresholdSecretSharingVersion9App(int n, int initialThreshold, boolean verbose) {
+        this(n, initialThreshold, verbose, Fp256Field.INSTANCE);
+    }
+
+    /**
+     * Constructor: initialises the dynamic-threshold secret-sharing system over the catalog prime of the given size
+     */
+    public DynamicThresholdSecretSharingVersion9App(int n, int initialThreshold, boolean verbose, int primeBitLength) {
+        this(n, initialThreshold, verbose, PrimeCatalog.field(primeBitLength));
+    }
+
+    /**
+     * Constructor: initialises the dynamic-threshold secret-sharing system over the given field backend
+     */
+    public DynamicThresholdSecretSharingVersion9App(int n, int initialThreshold, boolean verbose, Field field) {
+        this.field = field;
+        this.limbs = field.limbs();
         this.n = n;
         this.currentThreshold = initialThreshold;
         this.currentMainThreshold = initialThreshold;
-        this.p = FIXED_256BIT_PRIME;
+        this.p = field.modulus();
         this.participantIDs = generateParticipantIDs(n);
+        this.idElements = field.newElements(n);
+        for (int i = 0; i < n; i++) {
+            field.fromBigInteger(participantIDs.get(i), idElements, i * limbs);
+        }
+        this.idPowers = new PowerTable(field, idElements, n, initialThreshold);
+        this.lagrangeCache = LagrangeCache.shared(field, idElements, n);
+        this.recoveryScratch = ThreadLocal.withInitial(() -> new RecoveryScratch(field, n));
+        this.zero = field.newElements(1);
         this.stats = new PerformanceStats();
         this.verbose = verbose;
         this.secret = new BigInteger("73138218979700741375608676119062004991785096625092157987592068860966427730354").mod(p);
-        this.previousSeed = new BigInteger("10101010");
+        this.seedSchedule = new SeedSchedule(SeedSchedule.DEFAULT_EPOCH_KEY);
 
         if (verbose) {
-            System.out.println("✓ System initialisation complete – participants: " + n + ", initial threshold: " + initialThreshold);
+            System.out.println("✓ System initialisation complete – participants: " + n + ", initial threshold: " + initialThreshold
+                    + ", field: " + field.name());
         }
     }
 
@@ -80,27 +127,25 @@ public class DynamicThresholdSecretSharingVersion9App {
             System.out.println("=".repeat(60));
         }
 
-        this.secret = secret;
+        this.secret = secret.mod(p);
+        long[] secretElement = field.newElements(1);
+        field.fromBigInteger(this.secret, secretElement, 0);
 
         // Generate symmetric bivariate polynomial – strictly follows Eq. (4.2)
         if (verbose) System.out.println("Step 1: generate symmetric bivariate polynomial f(x,y)");
-        this.mainPolynomial = new BivariatePolynomial(currentThreshold, p, secret, verbose);
+        this.mainPolynomial = new BivariatePolynomial(currentThreshold, field, secretElement, 0, verbose);
+        this.pairingKeys = new PairingKeyMatrix(mainPolynomial, idPowers, n);
 
         // Generate master shares – strictly follows Section 4.3.1
         if (verbose) System.out.println("Step 2: generate master shares S_i(y) = f(ID_i, y)");
-        this.mainShares = new ArrayList<>();
-        for (int i = 0; i < participantIDs.size(); i++) {
-            BigInteger id = participantIDs.get(i);
-            UnivariatePolynomial share = mainPolynomial.evaluateAtX(id);
-            mainShares.add(share);
-        }
+        this.mainShares = new ArrayList<>(Arrays.asList(mainPolynomial.evaluateAtAllX(idPowers, n)));
 
         // Generate working shares – strictly follows Section 4.3.2
+        // T_i = S_i(0) is column 0 of the master-share product, so no further evaluation is needed
         if (verbose) System.out.println("Step 3: generate working shares T_i = S_i(0) = f(ID_i, 0)");
-        this.workingShares = new ArrayList<>();
+        this.workingShares = field.newElements(n);
         for (int i = 0; i < n; i++) {
-            BigInteger workingShare = mainShares.get(i).evaluate(BigInteger.ZERO);
-            workingShares.add(workingShare);
+            mainShares.get(i).constantTerm(workingShares, i * limbs);
         }
 
         long endTime = System.nanoTime();
@@ -130,100 +175,151 @@ public class DynamicThresholdSecretSharingVersion9App {
             System.out.println("Current threshold: " + currentThreshold + " → new threshold: " + newThreshold);
         }
 
-        // Step 1: locally compute Lagrange components – strictly follows paper Step 1
-        if (verbose) System.out.println("Step 1: locally compute Lagrange components c_i = S_i(0) × L_i");
-        List<BigInteger> lagrangeComponents = computeLagrangeComponents(currentThreshold);
+        reshareWorkingShares(newThreshold, null);
 
-        // Step 2: locally generate re-sharing polynomials – strictly follows paper Step 2
-        if (verbose) System.out.println("Step 2: locally generate re-sharing polynomials h_i(x,y)");
-        List<BivariatePolynomial> resharePolynomials = generateResharePolynomials(lagrangeComponents, newThreshold);
+        long endTime = System.nanoTime();
+        stats.addThresholdAdjustTime(endTime - startTime);
 
-        // Step 3: locally generate encrypted shares and broadcast – strictly follows paper Step 3
-        if (verbose) System.out.println("Step 3: generate encrypted shares and broadcast C_ik = v_ik + k_ik");
-        List<List<BigInteger>> encryptedShares = generateEncryptedShares(resharePolynomials);
+        if (verbose) {
+            System.out.println("✓ Secure threshold decrease complete");
+            System.out.printf("Total threshold-decrease time: %.3f ms\n", (endTime - startTime) / 1e6);
+            System.out.println("=".repeat(60));
+        }
+    }
 
-        // Step 4: parallel decryption and working-share computation – strictly follows paper Step 4
-        if (verbose) System.out.println("Step 4: parallel decryption and compute new working shares");
-        updateWorkingShares(encryptedShares);
+    /**
+     * Threshold decrease fused with the working-share update of round updateRound at the new threshold
+     * The zero-constant refresh column δ(x) is folded into the first re-sharing polynomial, so the broadcast
+     * and decryption of Section 4.4.2 already yield T_k + δ(ID_k); the separate 4.5.1 pass over all
+     * participants is skipped
+     */
+    public void thresholdDecreaseWithRefresh(int newThreshold, String contextInfo, int updateRound) {
+        if (newThreshold >= currentThreshold) {
+            throw new IllegalArgumentException("New threshold must be smaller than current threshold");
+        }
 
-        this.currentThreshold = newThreshold;
+        long startTime = System.nanoTime();
+
+        if (verbose) {
+            System.out.println("\n" + "=".repeat(60));
+            System.out.println("Fused threshold decrease and working-share update started");
+            System.out.println("=".repeat(60));
+            System.out.println("Current threshold: " + currentThreshold + " → new threshold: " + newThreshold);
+        }
+
+        byte[] randomSeed = generateRandomSeed(SeedSchedule.WORKING_SHARE_UPDATE, contextInfo, updateRound);
+        reshareWorkingShares(newThreshold, generateUpdateColumn(randomSeed, newThreshold));
 
         long endTime = System.nanoTime();
-        stats.addThresholdAdjustTime(endTime - startTime);
+        stats.addDecreaseRefreshTime(endTime - startTime);
 
         if (verbose) {
-            System.out.println("✓ Secure threshold decrease complete");
-            System.out.printf("Total threshold-decrease time: %.3f ms\n", (endTime - startTime) / 1e6);
+            System.out.println("✓ Fused threshold decrease and working-share update complete");
+            System.out.printf("Total fused decrease-refresh time: %.3f ms\n", (endTime - startTime) / 1e6);
             System.out.println("=".repeat(60));
         }
     }
 
+    /**
+     * Steps 1-4 of Section 4.4.2; a non-null refreshColumn is added to the new working shares in the same pass
+     */
+    private void reshareWorkingShares(int newThreshold, UnivariatePolynomial refreshColumn) {
+        // Step 1: locally compute Lagrange components – strictly follows paper Step 1
+        if (verbose) System.out.println("Step 1: locally compute Lagrange components c_i = S_i(0) × L_i");
+        long[] lagrangeComponents = computeLagrangeComponents(currentThreshold);
+
+        // Step 2: locally generate re-sharing polynomials – only h_i(x, 0) is ever evaluated, so each
+        // participant draws the t' coefficients of that column instead of a full bivariate h_i(x,y)
+        if (verbose) System.out.println("Step 2: locally generate re-sharing polynomials h_i(x,0)");
+        List<UnivariatePolynomial> resharePolynomials = generateResharePolynomials(lagrangeComponents, newThreshold);
+        if (refreshColumn != null) {
+            // sum_i h_i(ID_k, 0) then carries δ(ID_k) as well
+            resharePolynomials.set(0, resharePolynomials.get(0).add(refreshColumn));
+        }
+
+        // Step 3: locally generate encrypted shares and broadcast – strictly follows paper Step 3
+        // Step 4: parallel decryption and working-share computation – strictly follows paper Step 4
+        // Streamed: every broadcast row is decrypted into the receivers' running sums as soon as it is produced
+        if (verbose) System.out.println("Step 3: generate encrypted shares and broadcast C_ik = v_ik + k_ik");
+        if (verbose) System.out.println("Step 4: decrypt each broadcast on arrival and compute new working shares");
+        streamEncryptedShares(resharePolynomials);
+
+        this.currentThreshold = newThreshold;
+    }
+
     /**
      * Compute Lagrange components – helper
      */
-    private List<BigInteger> computeLagrangeComponents(int threshold) {
-        List<BigInteger> components = new ArrayList<>();
+    private long[] computeLagrangeComponents(int threshold) {
+        int[] indices = new int[threshold];
+        for (int i = 0; i < threshold; i++) {
+            indices[i] = i;
+        }
+        long[] components = field.newElements(threshold);
+        long[] lagrangeCoeffs = field.newElements(threshold);
+        lagrangeCache.coefficientsAtZero(recoveryScratch.get().lagrange, idElements, indices, threshold, lagrangeCoeffs, 0);
         for (int i = 0; i < threshold; i++) {
-            BigInteger lagrangeCoeff = computeLagrangeCoefficient(i, threshold);
-            BigInteger mainShareValue = mainShares.get(i).evaluate(BigInteger.ZERO);
-            BigInteger component = mainShareValue.multiply(lagrangeCoeff).mod(p);
-            components.add(component);
+            mainShares.get(i).constantTerm(components, i * limbs);
+            field.mul(components, i * limbs, lagrangeCoeffs, i * limbs, components, i * limbs);
             if (verbose && i < 3) {
-                System.out.println("  Participant P" + (i+1) + " Lagrange component: " + component);
+                System.out.println("  Participant P" + (i+1) + " Lagrange component: " + field.toBigInteger(components, i * limbs));
             }
         }
         return components;
     }
 
     /**
-     * Generate re-sharing polynomials – helper
+     * Generate re-sharing polynomials h_i(x, 0) = c_i + sum_{k<t'} r_ik x^k – helper
+     * The t' - 1 random coefficients come pre-generated from the background pool
      */
-    private List<BivariatePolynomial> generateResharePolynomials(List<BigInteger> components, int newThreshold) {
-        List<BivariatePolynomial> polynomials = new ArrayList<>();
-        for (int i = 0; i < components.size(); i++) {
-            BigInteger component = components.get(i);
-            BivariatePolynomial poly = new BivariatePolynomial(newThreshold, p, component, false);
-            polynomials.add(poly);
+    private List<UnivariatePolynomial> generateResharePolynomials(long[] components, int newThreshold) {
+        List<UnivariatePolynomial> polynomials = new ArrayList<>();
+        RandomnessPool pool = RandomnessPool.shared(field);
+        int count = components.length / limbs;
+        for (int i = 0; i < count; i++) {
+            long[] coefficients = field.newElements(newThreshold);
+            field.copy(components, i * limbs, coefficients, 0);
+            pool.takeElements(newThreshold - 1, coefficients, limbs);
+            polynomials.add(new UnivariatePolynomial(coefficients, field));
         }
         return polynomials;
     }
 
     /**
-     * Generate encrypted shares – helper
+     * Generate encrypted shares and update working shares as one stream – helper
+     * Sender i's row C_ik = v_ik + k_ik is built in a single reusable buffer and folded straight into every
+     * receiver's running sums of received values and of its own pairing keys k_ki, so the live state is O(n)
+     * elements rather than the full t×n broadcast matrix
      */
-    private List<List<BigInteger>> generateEncryptedShares(List<BivariatePolynomial> resharePolynomials) {
-        List<List<BigInteger>> encryptedShares = new ArrayList<>();
+    private void streamEncryptedShares(List<UnivariatePolynomial> resharePolynomials) {
+        long[] encryptedRow = field.newElements(n);
+        // Receiver k: sum of encrypted values at 2k, sum of pairing keys at 2k + 1, each reduced once at the end
+        int accLimbs = field.accumulatorLimbs();
+        long[] acc = new long[2 * n * accLimbs];
+        for (int k = 0; k < 2 * n; k++) {
+            field.clearAccumulator(acc, k * accLimbs);
+        }
+
         for (int i = 0; i < resharePolynomials.size(); i++) {
-            List<BigInteger> encryptedRow = new ArrayList<>();
-            BivariatePolynomial poly = resharePolynomials.get(i);
-
-            for (int j = 0; j < n; j++) {
-                BigInteger shareValue = poly.evaluate(participantIDs.get(j), BigInteger.ZERO);
-                // Compute pairing key using current main polynomial – strictly follows paper
-                BigInteger pairingKey = mainPolynomial.evaluate(participantIDs.get(i), participantIDs.get(j));
-                BigInteger encrypted = shareValue.add(pairingKey).mod(p);
-                encryptedRow.add(encrypted);
+            // Sender i: v_ik = h_i(ID_k, 0) for all receivers in one batched pass, then encrypt
+            resharePolynomials.get(i).evaluateAll(idPowers, encryptedRow, 0);
+            for (int k = 0; k < n; k++) {
+                // Pairing key k_ik = f(ID_i, ID_k) of the current main polynomial – strictly follows paper
+                field.add(encryptedRow, k * limbs, pairingKeys.keys(i, k), pairingKeys.key(i, k), encryptedRow, k * limbs);
+            }
+            // Receivers: take C_ik off the broadcast and the matching key k_ki = k_ik
+            for (int k = 0; k < n; k++) {
+                field.accumulate(acc, 2 * k * accLimbs, encryptedRow, k * limbs);
+                field.accumulate(acc, (2 * k + 1) * accLimbs, pairingKeys.keys(k, i), pairingKeys.key(k, i));
             }
-            encryptedShares.add(encryptedRow);
         }
-        return encryptedShares;
-    }
 
-    /**
-     * Update working shares – helper
-     */
-    private void updateWorkingShares(List<List<BigInteger>> encryptedShares) {
-        List<BigInteger> newWorkingShares = new ArrayList<>();
+        long[] newWorkingShares = field.newElements(n);
+        long[] keySum = field.newElements(1);
         for (int k = 0; k < n; k++) {
-            BigInteger sum = BigInteger.ZERO;
-            for (int i = 0; i < encryptedShares.size(); i++) {
-                BigInteger encrypted = encryptedShares.get(i).get(k);
-                // Compute pairing key using current main polynomial – strictly follows paper
-                BigInteger pairingKey = mainPolynomial.evaluate(participantIDs.get(k), participantIDs.get(i));
-                BigInteger decrypted = encrypted.subtract(pairingKey).mod(p);
-                sum = sum.add(decrypted).mod(p);
-            }
-            newWorkingShares.add(sum);
+            field.reduceAccumulator(acc, 2 * k * accLimbs, newWorkingShares, k * limbs);
+            field.reduceAccumulator(acc, (2 * k + 1) * accLimbs, keySum, 0);
+            field.sub(newWorkingShares, k * limbs, keySum, 0, newWorkingShares, k * limbs);
         }
         this.workingShares = newWorkingShares;
     }
@@ -271,15 +367,9 @@ public class DynamicThresholdSecretSharingVersion9App {
      */
     public BigInteger secretRecovery(List<Integer> participantIndices) {
         validateRecoveryParticipants(participantIndices, currentThreshold);
-        // Pre-compute pairing keys
-        Map<String, BigInteger> pairingKeyCache = precomputePairingKeys(participantIndices);
-        // Compute Lagrange components
-        List<BigInteger> lagrangeComponents = computeRecoveryLagrangeComponents(participantIndices, true);
-        // Generate published values
-        List<BigInteger> publishedValues = generatePublishedValues(participantIndices, lagrangeComponents, pairingKeyCache);
-        // Recover secret
-        BigInteger recoveredSecret = recoverSecretFromPublishedValues(publishedValues);
-        return recoveredSecret;
+        RecoveryScratch scratch = recoveryScratch.get();
+        recoverSecret(participantIndices, true, scratch, scratch.secret, 0);
+        return field.toBigInteger(scratch.secret, 0);
     }
 
     /**
@@ -305,6 +395,7 @@ public class DynamicThresholdSecretSharingVersion9App {
         // Optimised Step 1: directly construct expanded polynomial – strictly follows paper expansion design
         if (verbose) System.out.println("Step 1: directly construct expanded symmetric bivariate polynomial");
         this.mainPolynomial = buildExtendedPolynomialDirectly(newThreshold);
+        this.pairingKeys = new PairingKeyMatrix(mainPolynomial, idPowers, n);
 
         // New: strictly validate expanded polynomial
         if (verbose) System.out.println("Step 1.1: validate expanded polynomial meets paper requirements");
@@ -338,21 +429,14 @@ public class DynamicThresholdSecretSharingVersion9App {
     private void validateExtendedPolynomial(BivariatePolynomial extendedPoly, int originalThreshold, int newThreshold) {
         // Validation 1: low-order coefficients unchanged
         for (int i = 0; i < originalThreshold; i++) {
-            for (int j = 0; j < originalThreshold; j++) {
-                if (!extendedPoly.coefficients[i][j].equals(mainPolynomial.coefficients[i][j])) {
+            for (int j = i; j < originalThreshold; j++) {
+                if (!extendedPoly.coefficientEquals(i, j, mainPolynomial, i, j)) {
                     throw new IllegalStateException("Low-order coefficients modified during expansion");
                 }
             }
         }
 
-        // Validation 2: symmetry preserved
-        for (int i = 0; i < newThreshold; i++) {
-            for (int j = i; j < newThreshold; j++) {
-                if (!extendedPoly.coefficients[i][j].equals(extendedPoly.coefficients[j][i])) {
-                    throw new IllegalStateException("Expanded polynomial symmetry broken");
-                }
-            }
-        }
+        // Validation 2: symmetry preserved – guaranteed by the packed upper-triangular storage (a_ji is a_ij)
 
         // Validation 3: secret value preserved
         BigInteger extendedSecret = extendedPoly.evaluate(BigInteger.ZERO, BigInteger.ZERO);
@@ -361,7 +445,7 @@ public class DynamicThresholdSecretSharingVersion9App {
         }
 
         // Validation 4: correct degree
-        if (extendedPoly.coefficients.length != newThreshold) {
+        if (extendedPoly.threshold() != newThreshold) {
             throw new IllegalStateException("Expanded polynomial degree incorrect");
         }
 
@@ -380,14 +464,13 @@ public class DynamicThresholdSecretSharingVersion9App {
     private void updateWorkingSharesForExtension(int newThreshold) {
         if (verbose) System.out.println("  Re-computing working shares for " + n + " participants");
 
+        // Directly compute new working shares from expanded polynomial
+        mainPolynomial.evaluateAtYZeroAll(idPowers, workingShares, 0);
         for (int i = 0; i < n; i++) {
-            // Directly compute new working share from expanded polynomial
-            BigInteger newWorkingShare = mainPolynomial.evaluate(participantIDs.get(i), BigInteger.ZERO);
-            workingShares.set(i, newWorkingShare);
-
             if (verbose && i < 2) {
+                String newWorkingShare = field.toBigInteger(workingShares, i * limbs).toString();
                 System.out.println("    Participant P" + (i+1) + " new working share: " +
-                        newWorkingShare.toString().substring(0, Math.min(10, newWorkingShare.toString().length())) + "...");
+                        newWorkingShare.substring(0, Math.min(10, newWorkingShare.length())) + "...");
             }
         }
     }
@@ -398,14 +481,14 @@ public class DynamicThresholdSecretSharingVersion9App {
     private void updateMainSharesForExtension(int newThreshold) {
         if (verbose) System.out.println("  Re-computing master shares for " + n + " participants");
 
+        // Directly compute new master shares from expanded polynomial
+        UnivariatePolynomial[] newMainShares = mainPolynomial.evaluateAtAllX(idPowers, n);
         for (int i = 0; i < n; i++) {
-            BigInteger id = participantIDs.get(i);
-            // Directly compute new master share from expanded polynomial
-            UnivariatePolynomial newMainShare = mainPolynomial.evaluateAtX(id);
+            UnivariatePolynomial newMainShare = newMainShares[i];
             mainShares.set(i, newMainShare);
 
             if (verbose && i < 2) {
-                System.out.println("    Participant P" + (i+1) + " new master-share degree: " + (newMainShare.coefficients.length - 1));
+                System.out.println("    Participant P" + (i+1) + " new master-share degree: " + newMainShare.degree());
             }
         }
     }
@@ -416,33 +499,25 @@ public class DynamicThresholdSecretSharingVersion9App {
      */
     private BivariatePolynomial buildExtendedPolynomialDirectly(int newThreshold) {
         // Create polynomial for new threshold
-        BivariatePolynomial extendedPoly = new BivariatePolynomial(newThreshold, p, this.secret, false);
+        long[] secretElement = field.newElements(1);
+        field.fromBigInteger(this.secret, secretElement, 0);
+        BivariatePolynomial extendedPoly = new BivariatePolynomial(newThreshold, field, secretElement, 0, false);
 
         // Step 1: copy original polynomial coefficients (low-order part)
         if (verbose) System.out.println("  Copying low-order coefficients (0 ≤ i,j < " + currentThreshold + ")");
         for (int i = 0; i < currentThreshold; i++) {
-            for (int j = 0; j < currentThreshold; j++) {
-                extendedPoly.setCoefficient(i, j, mainPolynomial.coefficients[i][j]);
+            for (int j = i; j < currentThreshold; j++) { // a_ji shares storage with a_ij
+                extendedPoly.setCoefficient(i, j, mainPolynomial, i, j);
             }
         }
 
-        // Step 2: generate extended high-order random coefficients – strictly follows paper expansion design
-        if (verbose) System.out.println("  Generating extended high-order coefficients (" + currentThreshold + " ≤ i,j < " + newThreshold + ")");
-        SecureRandom secureRandom = BCCryptoUtils.createSecureRandom(null);
-
-        // Generate only extended high-order coefficients
-        for (int i = currentThreshold; i < newThreshold; i++) {
-            for (int j = i; j < newThreshold; j++) { // upper-triangular only, diagonal included
-                BigInteger coeff = new BigInteger(p.bitLength() - 1, secureRandom).mod(p);
-                extendedPoly.setCoefficient(i, j, coeff);
-                if (i != j) {
-                    extendedPoly.setCoefficient(j, i, coeff); // preserve symmetry
-                }
-
-                if (verbose && i == currentThreshold && j == currentThreshold) {
-                    System.out.println("  First extended coefficient: a[" + i + "][" + j + "] = " + coeff);
-                }
-            }
+        // Step 2: extended high-order random coefficients – strictly follows paper expansion design
+        // The constructor already filled every coefficient with a fresh pooled block; the high-order ones are kept
+        if (verbose) {
+            System.out.println("  Extended high-order coefficients (" + currentThreshold + " ≤ i,j < " + newThreshold + ") taken from the randomness pool");
+            long[] coeff = field.newElements(1);
+            extendedPoly.copyCoefficient(currentThreshold, currentThreshold, coeff, 0);
+            System.out.println("  First extended coefficient: a[" + currentThreshold + "][" + currentThreshold + "] = " + field.toBigInteger(coeff, 0));
         }
 
         // Validate secret preservation after expansion
@@ -465,17 +540,15 @@ public class DynamicThresholdSecretSharingVersion9App {
      */
     private BivariatePolynomial generateExtensionPolynomial(int k) {
         // Create extension polynomial with zero constant term – strictly follows paper requirement
-        BivariatePolynomial extensionPoly = new BivariatePolynomial(currentThreshold + k, p, BigInteger.ZERO, false);
+        BivariatePolynomial extensionPoly = new BivariatePolynomial(currentThreshold + k, field, zero, 0, false);
 
         // Set only high-order coefficients, keep low-order zero – key fix
-        SecureRandom secureRandom = new SecureRandom();
+        SecureRandom secureRandom = BCCryptoUtils.threadLocalRandom();
+        long[] coeff = field.newElements(1);
         for (int i = currentThreshold; i <= currentThreshold + k - 1; i++) {
             for (int j = i; j <= currentThreshold + k - 1; j++) {
-                BigInteger coeff = new BigInteger(p.bitLength() - 1, secureRandom).mod(p);
-                extensionPoly.setCoefficient(i, j, coeff);
-                if (i != j) {
-                    extensionPoly.setCoefficient(j, i, coeff);
-                }
+                field.random(secureRandom, coeff, 0);
+                extensionPoly.setCoefficient(i, j, coeff, 0);
             }
         }
         return extensionPoly;
@@ -485,22 +558,26 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Build expanded polynomial – key fix method
      */
     private BivariatePolynomial buildExtendedPolynomial(BivariatePolynomial extensionPoly, int newThreshold) {
-        BivariatePolynomial newPoly = new BivariatePolynomial(newThreshold, p, this.secret, false);
+        long[] secretElement = field.newElements(1);
+        field.fromBigInteger(this.secret, secretElement, 0);
+        BivariatePolynomial newPoly = new BivariatePolynomial(newThreshold, field, secretElement, 0, false);
 
         // Copy original polynomial coefficients
         for (int i = 0; i < currentThreshold; i++) {
-            for (int j = 0; j < currentThreshold; j++) {
-                newPoly.setCoefficient(i, j, mainPolynomial.coefficients[i][j]);
+            for (int j = i; j < currentThreshold; j++) {
+                newPoly.setCoefficient(i, j, mainPolynomial, i, j);
             }
         }
 
-        // Add extension polynomial coefficients
+        // Add extension polynomial coefficients (upper triangle; a_ji shares storage with a_ij)
+        long[] sum = field.newElements(2);
         for (int i = 0; i < newThreshold; i++) {
-            for (int j = 0; j < newThreshold; j++) {
+            for (int j = i; j < newThreshold; j++) {
                 if (i >= currentThreshold || j >= currentThreshold) {
-                    BigInteger current = newPoly.coefficients[i][j];
-                    BigInteger extension = extensionPoly.coefficients[i][j];
-                    newPoly.setCoefficient(i, j, current.add(extension).mod(p));
+                    newPoly.copyCoefficient(i, j, sum, 0);
+                    extensionPoly.copyCoefficient(i, j, sum, limbs);
+                    field.add(sum, 0, sum, limbs, sum, 0);
+                    newPoly.setCoefficient(i, j, sum, 0);
                 }
             }
         }
@@ -512,9 +589,9 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Update master shares – helper
      */
     private void updateMainShares(BivariatePolynomial extensionPoly) {
+        UnivariatePolynomial[] extensionShares = extensionPoly.evaluateAtAllX(idPowers, n);
         for (int i = 0; i < n; i++) {
-            BigInteger id = participantIDs.get(i);
-            UnivariatePolynomial extensionShare = extensionPoly.evaluateAtX(id);
+            UnivariatePolynomial extensionShare = extensionShares[i];
             UnivariatePolynomial newMainShare = mainShares.get(i).add(extensionShare);
             mainShares.set(i, newMainShare);
         }
@@ -524,11 +601,9 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Update working shares – helper
      */
     private void updateWorkingSharesForIncrease(BivariatePolynomial extensionPoly) {
-        for (int i = 0; i < n; i++) {
-            BigInteger extensionValue = extensionPoly.evaluate(participantIDs.get(i), BigInteger.ZERO);
-            BigInteger newWorkingShare = workingShares.get(i).add(extensionValue).mod(p);
-            workingShares.set(i, newWorkingShare);
-        }
+        long[] extensionValues = field.newElements(n);
+        extensionPoly.evaluateAtYZeroAll(idPowers, extensionValues, 0);
+        addToWorkingShares(extensionValues);
     }
 
     /**
@@ -544,13 +619,20 @@ public class DynamicThresholdSecretSharingVersion9App {
         }
 
         // Step 1: generate public random seed – strictly follows paper Step 1
-        BigInteger randomSeed = generateRandomSeed(contextInfo, updateRound);
+        byte[] randomSeed = generateRandomSeed(SeedSchedule.WORKING_SHARE_UPDATE, contextInfo, updateRound);
 
         // Step 2: generate update polynomial – strictly follows paper Step 2
-        BivariatePolynomial updatePoly = generateUpdatePolynomial(randomSeed, currentThreshold);
-
         // Step 3: update local working shares – strictly follows paper Step 3
-        updateWorkingSharesWithPoly(updatePoly);
+        if (COLUMN_ONLY_WORKING_REFRESH) {
+            // T_i only needs δ(ID_i, 0), i.e. column 0 of the update polynomial
+            UnivariatePolynomial updateColumn = generateUpdateColumn(randomSeed, currentThreshold);
+            long[] updateValues = field.newElements(n);
+            updateColumn.evaluateAll(idPowers, updateValues, 0);
+            addToWorkingShares(updateValues);
+        } else {
+            BivariatePolynomial updatePoly = generateUpdatePolynomial(randomSeed, currentThreshold);
+            updateWorkingSharesWithPoly(updatePoly);
+        }
 
         long endTime = System.nanoTime();
         stats.addWorkingShareUpdateTime(endTime - startTime);
@@ -566,11 +648,17 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Update working shares with update polynomial – helper
      */
     private void updateWorkingSharesWithPoly(BivariatePolynomial updatePoly) {
+        long[] updateValues = field.newElements(n);
+        updatePoly.evaluateAtYZeroAll(idPowers, updateValues, 0);
+        addToWorkingShares(updateValues);
+    }
+
+    /**
+     * Add one delta per participant, laid out like workingShares, into the working shares
+     */
+    private void addToWorkingShares(long[] delta) {
         for (int i = 0; i < n; i++) {
-            BigInteger oldShare = workingShares.get(i);
-            BigInteger updateValue = updatePoly.evaluate(participantIDs.get(i), BigInteger.ZERO);
-            BigInteger newShare = oldShare.add(updateValue).mod(p);
-            workingShares.set(i, newShare);
+            field.add(workingShares, i * limbs, delta, i * limbs, workingShares, i * limbs);
         }
     }
 
@@ -587,7 +675,7 @@ public class DynamicThresholdSecretSharingVersion9App {
         }
 
         // Step 1: generate public random seed
-        BigInteger randomSeed = generateRandomSeed(contextInfo, updateRound);
+        byte[] randomSeed = generateRandomSeed(SeedSchedule.MAIN_SHARE_UPDATE, contextInfo, updateRound);
 
         // Step 2: generate update polynomial
         BivariatePolynomial updatePoly = generateUpdatePolynomial(randomSeed, currentMainThreshold);
@@ -609,14 +697,86 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Update master shares with update polynomial – helper
      */
     private void updateMainSharesWithPoly(BivariatePolynomial updatePoly) {
+        UnivariatePolynomial[] updateShares = updatePoly.evaluateAtAllX(idPowers, n);
         for (int i = 0; i < n; i++) {
             UnivariatePolynomial oldMainShare = mainShares.get(i);
-            UnivariatePolynomial updatePolyAtID = updatePoly.evaluateAtX(participantIDs.get(i));
+            UnivariatePolynomial updatePolyAtID = updateShares[i];
             UnivariatePolynomial newMainShare = oldMainShare.add(updatePolyAtID);
             mainShares.set(i, newMainShare);
         }
     }
 
+    /**
+     * Coalesced catch-up over update rounds fromRound..toRound (inclusive) for both share types
+     * Same result as calling workingShareUpdate and mainShareUpdate for every round in order
+     */
+    public void updateRounds(String contextInfo, int fromRound, int toRound) {
+        workingShareUpdateRounds(contextInfo, fromRound, toRound);
+        mainShareUpdateRounds(contextInfo, fromRound, toRound);
+    }
+
+    /**
+     * Coalesced working-share update: update polynomials are additive, so the rounds' update columns are summed
+     * first and every working share is refreshed by one evaluation of the sum
+     */
+    public void workingShareUpdateRounds(String contextInfo, int fromRound, int toRound) {
+        validateRoundRange(fromRound, toRound);
+        long startTime = System.nanoTime();
+
+        UnivariatePolynomial updateColumn = null;
+        for (int round = fromRound; round <= toRound; round++) {
+            byte[] randomSeed = generateRandomSeed(SeedSchedule.WORKING_SHARE_UPDATE, contextInfo, round);
+            UnivariatePolynomial roundColumn = generateUpdateColumn(randomSeed, currentThreshold);
+            updateColumn = updateColumn == null ? roundColumn : updateColumn.add(roundColumn);
+        }
+        long[] updateValues = field.newElements(n);
+        updateColumn.evaluateAll(idPowers, updateValues, 0);
+        addToWorkingShares(updateValues);
+
+        long endTime = System.nanoTime();
+        stats.addCoalescedWorkingShareUpdateTime(endTime - startTime);
+
+        if (verbose) {
+            System.out.println("✓ Working shares caught up over rounds " + fromRound + ".." + toRound);
+            System.out.printf("Total coalesced working-share update time: %.3f ms\n", (endTime - startTime) / 1e6);
+        }
+    }
+
+    /**
+     * Coalesced master-share update: the rounds' update polynomials are summed coefficient-wise and applied in
+     * one evaluateAtX pass per participant
+     */
+    public void mainShareUpdateRounds(String contextInfo, int fromRound, int toRound) {
+        validateRoundRange(fromRound, toRound);
+        long startTime = System.nanoTime();
+
+        BivariatePolynomial updatePoly = null;
+        for (int round = fromRound; round <= toRound; round++) {
+            byte[] randomSeed = generateRandomSeed(SeedSchedule.MAIN_SHARE_UPDATE, contextInfo, round);
+            BivariatePolynomial roundPoly = generateUpdatePolynomial(randomSeed, currentMainThreshold);
+            if (updatePoly == null) {
+                updatePoly = roundPoly;
+            } else {
+                updatePoly.addInPlace(roundPoly);
+            }
+        }
+        updateMainSharesWithPoly(updatePoly);
+
+        long endTime = System.nanoTime();
+        stats.addCoalescedMasterShareUpdateTime(endTime - startTime);
+
+        if (verbose) {
+            System.out.println("✓ Master shares caught up over rounds " + fromRound + ".." + toRound);
+            System.out.printf("Total coalesced master-share update time: %.3f ms\n", (endTime - startTime) / 1e6);
+        }
+    }
+
+    private void validateRoundRange(int fromRound, int toRound) {
+        if (fromRound > toRound) {
+            throw new IllegalArgumentException("Empty round range: " + fromRound + ".." + toRound);
+        }
+    }
+
     /**
      * Secret recovery from working shares: strictly follows Section 4.6.1
      */
@@ -631,17 +791,9 @@ public class DynamicThresholdSecretSharingVersion9App {
 
         validateRecoveryParticipants(participantIndices, currentThreshold);
 
-        // Pre-compute pairing keys
-        Map<String, BigInteger> pairingKeyCache = precomputePairingKeys(participantIndices);
-
-        // Compute Lagrange components
-        List<BigInteger> lagrangeComponents = computeRecoveryLagrangeComponents(participantIndices, true);
-
-        // Generate published values
-        List<BigInteger> publishedValues = generatePublishedValues(participantIndices, lagrangeComponents, pairingKeyCache);
-
-        // Recover secret
-        BigInteger recoveredSecret = recoverSecretFromPublishedValues(publishedValues);
+        RecoveryScratch scratch = recoveryScratch.get();
+        recoverSecret(participantIndices, true, scratch, scratch.secret, 0);
+        BigInteger recoveredSecret = field.toBigInteger(scratch.secret, 0);
 
         long endTime = System.nanoTime();
         if(flag){
@@ -671,17 +823,9 @@ public class DynamicThresholdSecretSharingVersion9App {
 
         validateRecoveryParticipants(participantIndices, currentMainThreshold);
 
-        // Pre-compute pairing keys
-        Map<String, BigInteger> pairingKeyCache = precomputePairingKeys(participantIndices);
-
-        // Compute Lagrange components (using master shares)
-        List<BigInteger> lagrangeComponents = computeRecoveryLagrangeComponents(participantIndices, false);
-
-        // Generate published values
-        List<BigInteger> publishedValues = generatePublishedValues(participantIndices, lagrangeComponents, pairingKeyCache);
-
-        // Recover secret
-        BigInteger recoveredSecret = recoverSecretFromPublishedValues(publishedValues);
+        RecoveryScratch scratch = recoveryScratch.get();
+        recoverSecret(participantIndices, false, scratch, scratch.secret, 0);
+        BigInteger recoveredSecret = field.toBigInteger(scratch.secret, 0);
 
         long endTime = System.nanoTime();
         if(flag){
@@ -698,6 +842,126 @@ public class DynamicThresholdSecretSharingVersion9App {
         return recoveredSecret;
     }
 
+    /**
+     * Secret recovery from working shares into r[ro], without heap allocation once this thread's scratch
+     * buffers exist and the quorum's pairing keys are known; no timing is recorded
+     * Allocation-free for the limb backends (BigIntegerField allocates inside its arithmetic)
+     */
+    public void secretRecoveryFromWorkingShares(List<Integer> participantIndices, long[] r, int ro) {
+        validateRecoveryParticipants(participantIndices, currentThreshold);
+        recoverSecret(participantIndices, true, recoveryScratch.get(), r, ro);
+    }
+
+    /**
+     * Secret recovery from master shares into r[ro]; allocation behaviour as for working shares
+     */
+    public void secretRecoveryFromMainShares(List<Integer> participantIndices, long[] r, int ro) {
+        validateRecoveryParticipants(participantIndices, currentMainThreshold);
+        recoverSecret(participantIndices, false, recoveryScratch.get(), r, ro);
+    }
+
+    /**
+     * Section 4.6.1 recovery core: Lagrange components, published values and their sum, all in scratch
+     */
+    private void recoverSecret(List<Integer> participantIndices, boolean useWorkingShares,
+                               RecoveryScratch scratch, long[] r, int ro) {
+        // Pre-compute pairing keys
+        precomputePairingKeys(participantIndices);
+
+        // Compute Lagrange components
+        computeRecoveryLagrangeComponents(participantIndices, useWorkingShares, scratch);
+
+        // Generate published values
+        generatePublishedValues(participantIndices, scratch);
+
+        // Recover secret
+        recoverSecretFromPublishedValues(scratch, participantIndices.size(), r, ro);
+    }
+
+    /**
+     * Reconstruct the whole working-share polynomial f(x, 0) from a quorum's working shares (audits, migrations)
+     * Returns one coefficient per quorum member; for consistent shares those above the threshold are zero
+     */
+    public List<BigInteger> reconstructWorkingPolynomial(List<Integer> participantIndices) {
+        validateRecoveryParticipants(participantIndices, currentThreshold);
+        int[] indices = toIndexArray(participantIndices);
+        int count = indices.length;
+
+        long[] values = field.newElements(count);
+        for (int m = 0; m < count; m++) {
+            field.copy(workingShares, indices[m] * limbs, values, m * limbs);
+        }
+        long[] coefficients = field.newElements(count);
+        new InterpolationEngine(field, idElements, indices, count).interpolate(values, 0, limbs, coefficients, 0);
+        return toBigIntegers(coefficients, 0, count);
+    }
+
+    /**
+     * Reconstruct every participant's master share S_i(y) from a quorum's master shares (audits, migrations)
+     * Coefficient j of S_i is g_j(ID_i) for g_j(x) = sum_k a_kj x^k, so each g_j is interpolated once over the
+     * quorum and all n shares then come out of one matrix product with the ID power table
+     */
+    public List<List<BigInteger>> reconstructMainShares(List<Integer> participantIndices) {
+        validateRecoveryParticipants(participantIndices, currentMainThreshold);
+        int[] indices = toIndexArray(participantIndices);
+        int count = indices.length;
+        int t = 0;
+        for (int idx : indices) {
+            t = Math.max(t, mainShares.get(idx).degree() + 1);
+        }
+
+        // Row m of the quorum matrix holds S_m's coefficients (missing high coefficients are zero)
+        long[] quorumCoefficients = field.newElements(count * t);
+        for (int m = 0; m < count; m++) {
+            UnivariatePolynomial share = mainShares.get(indices[m]);
+            for (int j = 0; j <= share.degree(); j++) {
+                share.copyCoefficient(j, quorumCoefficients, (m * t + j) * limbs);
+            }
+        }
+        // A[k][j] = coefficient k of g_j, interpolated column by column
+        InterpolationEngine interpolation = new InterpolationEngine(field, idElements, indices, count);
+        long[] column = field.newElements(count);
+        long[] a = field.newElements(count * t);
+        for (int j = 0; j < t; j++) {
+            interpolation.interpolate(quorumCoefficients, j * limbs, t * limbs, column, 0);
+            for (int k = 0; k < count; k++) {
+                field.copy(column, k * limbs, a, (k * t + j) * limbs);
+            }
+        }
+
+        idPowers.ensureWidth(count);
+        long[][] rows = new long[n][];
+        for (int i = 0; i < n; i++) {
+            rows[i] = field.newElements(t);
+        }
+        if (n >= ModularMatrixKernel.PARALLEL_ROWS) {
+            ModularMatrixKernel.multiplyParallel(field, idPowers.powers(), idPowers.width(), n, count, a, t, rows);
+        } else {
+            ModularMatrixKernel.multiply(field, idPowers.powers(), idPowers.width(), n, count, a, t, rows);
+        }
+        List<List<BigInteger>> shares = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            shares.add(toBigIntegers(rows[i], 0, t));
+        }
+        return shares;
+    }
+
+    private static int[] toIndexArray(List<Integer> participantIndices) {
+        int[] indices = new int[participantIndices.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = participantIndices.get(i);
+        }
+        return indices;
+    }
+
+    private List<BigInteger> toBigIntegers(long[] elements, int offset, int count) {
+        List<BigInteger> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(field.toBigInteger(elements, offset + i * limbs));
+        }
+        return values;
+    }
+
     /**
      * Validate recovery participants – helper
      */
@@ -710,80 +974,84 @@ public class DynamicThresholdSecretSharingVersion9App {
 
     /**
      * Pre-compute pairing keys – helper
+     * Fills the quorum's entries of the epoch's pairing-key matrix; entries already known are reused
      */
-    private Map<String, BigInteger> precomputePairingKeys(List<Integer> participantIndices) {
-        Map<String, BigInteger> pairingKeyCache = new HashMap<>();
+    private void precomputePairingKeys(List<Integer> participantIndices) {
         for (int i = 0; i < participantIndices.size(); i++) {
             int idx_i = participantIndices.get(i);
-            BigInteger id_i = participantIDs.get(idx_i);
             for (int j = i + 1; j < participantIndices.size(); j++) {
-                int idx_j = participantIndices.get(j);
-                BigInteger id_j = participantIDs.get(idx_j);
-                BigInteger pairingKey = mainPolynomial.evaluate(id_i, id_j);
-                pairingKeyCache.put(idx_i + "_" + idx_j, pairingKey);
-                pairingKeyCache.put(idx_j + "_" + idx_i, pairingKey);
+                pairingKeys.key(idx_i, participantIndices.get(j));
             }
         }
-        return pairingKeyCache;
     }
 
     /**
      * Compute recovery Lagrange components – helper
+     * scratch.components[i] = L_i(0) · share_i; the quorum's coefficients are memoised per thread
      */
-    private List<BigInteger> computeRecoveryLagrangeComponents(List<Integer> participantIndices, boolean useWorkingShares) {
-        List<BigInteger> components = new ArrayList<>();
-        for (int i = 0; i < participantIndices.size(); i++) {
+    private void computeRecoveryLagrangeComponents(List<Integer> participantIndices, boolean useWorkingShares,
+                                                   RecoveryScratch scratch) {
+        int count = participantIndices.size();
+        long[] components = scratch.components;
+        long[] lagrangeCoeffs = scratch.lagrangeCoefficients(participantIndices);
+        for (int i = 0; i < count; i++) {
             int idx = participantIndices.get(i);
-            BigInteger lagrangeCoeff = computeLagrangeCoefficientForRecovery(idx, participantIndices);
-            BigInteger shareValue = useWorkingShares ?
-                    workingShares.get(idx) : mainShares.get(idx).evaluate(BigInteger.ZERO);
-            BigInteger component = shareValue.multiply(lagrangeCoeff).mod(p);
-            components.add(component);
+            if (useWorkingShares) {
+                field.copy(workingShares, idx * limbs, components, i * limbs);
+            } else {
+                mainShares.get(idx).constantTerm(components, i * limbs);
+            }
+            field.mul(components, i * limbs, lagrangeCoeffs, i * limbs, components, i * limbs);
         }
-        return components;
     }
 
     /**
      * Generate published values – helper
      */
-    private List<BigInteger> generatePublishedValues(List<Integer> participantIndices,
-                                                     List<BigInteger> lagrangeComponents,
-                                                     Map<String, BigInteger> pairingKeyCache) {
-        List<BigInteger> publishedValues = new ArrayList<>();
+    private void generatePublishedValues(List<Integer> participantIndices, RecoveryScratch scratch) {
+        long[] lagrangeComponents = scratch.components;
+        long[] publishedValues = scratch.publishedValues;
+        long[] negative = scratch.negative;
+        // Added and subtracted keys go to separate accumulators and meet in a single subtraction
+        int accLimbs = field.accumulatorLimbs();
+        long[] acc = scratch.accumulators;
         for (int i = 0; i < participantIndices.size(); i++) {
             int idx_i = participantIndices.get(i);
-            BigInteger component = lagrangeComponents.get(i);
-            BigInteger publishedValue = component;
+            field.clearAccumulator(acc, 0);
+            field.clearAccumulator(acc, accLimbs);
+            field.accumulate(acc, 0, lagrangeComponents, i * limbs);
 
             for (int j = 0; j < participantIndices.size(); j++) {
                 if (i != j) {
                     int idx_j = participantIndices.get(j);
                     BigInteger id_i = participantIDs.get(idx_i);
                     BigInteger id_j = participantIDs.get(idx_j);
-                    String key = idx_i + "_" + idx_j;
-                    BigInteger pairingKey = pairingKeyCache.get(key);
+                    long[] keys = pairingKeys.keys(idx_i, idx_j);
+                    int key = pairingKeys.key(idx_i, idx_j);
 
                     if (id_i.compareTo(id_j) > 0) {
-                        publishedValue = publishedValue.subtract(pairingKey).mod(p);
+                        field.accumulate(acc, accLimbs, keys, key);
                     } else {
-                        publishedValue = publishedValue.add(pairingKey).mod(p);
+                        field.accumulate(acc, 0, keys, key);
                     }
                 }
             }
-            publishedValues.add(publishedValue);
+            field.reduceAccumulator(acc, 0, publishedValues, i * limbs);
+            field.reduceAccumulator(acc, accLimbs, negative, 0);
+            field.sub(publishedValues, i * limbs, negative, 0, publishedValues, i * limbs);
         }
-        return publishedValues;
     }
 
     /**
      * Recover secret from published values – helper
      */
-    private BigInteger recoverSecretFromPublishedValues(List<BigInteger> publishedValues) {
-        BigInteger recoveredSecret = BigInteger.ZERO;
-        for (BigInteger value : publishedValues) {
-            recoveredSecret = recoveredSecret.add(value).mod(p);
+    private void recoverSecretFromPublishedValues(RecoveryScratch scratch, int count, long[] r, int ro) {
+        long[] acc = scratch.accumulators;
+        field.clearAccumulator(acc, 0);
+        for (int i = 0; i < count; i++) {
+            field.accumulate(acc, 0, scratch.publishedValues, i * limbs);
         }
-        return recoveredSecret;
+        field.reduceAccumulator(acc, 0, r, ro);
     }
 
     /**
@@ -799,99 +1067,33 @@ public class DynamicThresholdSecretSharingVersion9App {
     // ============================ Utility methods ============================
 
     /**
-     * Compute Lagrange coefficient (for threshold adjustment)
+     * Generate random seed: strictly follows Section 4.5.1 Step 1
+     * Derived from the epoch's seed schedule, so every participant computes the seed of any round directly
      */
-    private BigInteger computeLagrangeCoefficient(int index, int threshold) {
-        BigInteger numerator = BigInteger.ONE;
-        BigInteger denominator = BigInteger.ONE;
-        BigInteger xi = participantIDs.get(index);
-
-        for (int j = 0; j < threshold; j++) {
-            if (j != index) {
-                BigInteger xj = participantIDs.get(j);
-                numerator = numerator.multiply(BigInteger.ZERO.subtract(xj)).mod(p);
-                denominator = denominator.multiply(xi.subtract(xj)).mod(p);
-            }
+    private byte[] generateRandomSeed(byte purpose, String contextInfo, int round) {
+        byte[] seed = seedSchedule.seed(purpose, contextInfo, round);
+        if (verbose) {
+            System.out.println("  Generated random seed: " + new BigInteger(1, seed).toString(16));
         }
-
-        return numerator.multiply(denominator.modInverse(p)).mod(p);
+        return seed;
     }
 
     /**
-     * Compute Lagrange coefficient for recovery
+     * Generate update polynomial: strictly follows Section 4.5.1 Step 2
      */
-    private BigInteger computeLagrangeCoefficientForRecovery(int index, List<Integer> indices) {
-        BigInteger numerator = BigInteger.ONE;
-        BigInteger denominator = BigInteger.ONE;
-        BigInteger xi = participantIDs.get(index);
-
-        for (int j : indices) {
-            if (j != index) {
-                BigInteger xj = participantIDs.get(j);
-                numerator = numerator.multiply(BigInteger.ZERO.subtract(xj)).mod(p);
-                denominator = denominator.multiply(xi.subtract(xj)).mod(p);
-            }
-        }
-
-        return numerator.multiply(denominator.modInverse(p)).mod(p);
+    private BivariatePolynomial generateUpdatePolynomial(byte[] seed, int threshold) {
+        // Counter-mode expansion of the public seed: packed coefficient k is element k, a_00 stays zero
+        return new BivariatePolynomial(threshold, field, new CounterModeExpander(seed));
     }
 
     /**
-     * Generate random seed: strictly follows Section 4.5.1 Step 1
+     * Column 0 of the update polynomial for the same seed, δ(x, 0) = sum_i a_i0 x^i, without deriving the rest
+     * a_i0 = a_0i is packed coefficient i, i.e. element i of the expansion, so the result matches the full path
      */
-    private BigInteger generateRandomSeed(String contextInfo, int round) {
-        try {
-            // Use Bouncy Castle SHA-256
-            String input = previousSeed.toString() + contextInfo + round;
-            byte[] hash = BCCryptoUtils.sha256(input.getBytes());
-            BigInteger newSeed = new BigInteger(1, hash).mod(p);
-            previousSeed = newSeed;
-
-            if (verbose) {
-                System.out.println("  Generated random seed: " + newSeed.toString());
-            }
-
-            return newSeed;
-        } catch (Exception e) {
-            // Fallback: Java built-in SHA-256
-            System.err.println("Bouncy Castle SHA-256 failed, falling back to Java implementation: " + e.getMessage());
-            try {
-                java.security.MessageDigest digest = java.security.MessageDigest.getInstance("SHA-256");
-                String input = previousSeed.toString() + contextInfo + round;
-                byte[] hash = digest.digest(input.getBytes());
-                BigInteger newSeed = new BigInteger(1, hash).mod(p);
-                previousSeed = newSeed;
-                return newSeed;
-            } catch (Exception ex) {
-                throw new RuntimeException("Random seed generation failed", ex);
-            }
-        }
-    }
-
-    /**
-     * Generate update polynomial: strictly follows Section 4.5.1 Step 2
-     */
-    private BivariatePolynomial generateUpdatePolynomial(BigInteger seed, int threshold) {
-        SecureRandom prng = BCCryptoUtils.createSecureRandom(seed.toByteArray());
-        BivariatePolynomial updatePoly = new BivariatePolynomial(threshold, p, BigInteger.ZERO, false);
-
-        // Explicitly set constant term to zero
-        updatePoly.setCoefficient(0, 0, BigInteger.ZERO);
-
-        // Generate symmetric coefficients
-        for (int i = 0; i < threshold; i++) {
-            for (int j = i; j < threshold; j++) {
-                if (i == 0 && j == 0) continue;
-                // Use Bouncy Castle secure random generator
-                BigInteger coeff = BCCryptoUtils.generateSecureRandomBigInteger(p, prng);
-                updatePoly.setCoefficient(i, j, coeff);
-                if (i != j) {
-                    updatePoly.setCoefficient(j, i, coeff);
-                }
-            }
-        }
-
-        return updatePoly;
+    private UnivariatePolynomial generateUpdateColumn(byte[] seed, int threshold) {
+        long[] column = field.newElements(threshold);
+        new CounterModeExpander(seed).fill(field, 1, threshold - 1, column, limbs);
+        return new UnivariatePolynomial(column, field);
     }
 
     /**
@@ -907,6 +1109,11 @@ public class DynamicThresholdSecretSharingVersion9App {
         private List<Long> workingSharesRecoveryTimes = new ArrayList<>();//working-share recovery time
         private List<Long> mainSharesRecoveryTimes = new ArrayList<>();//master-share recovery time
         private List<Long> mixedScenarioTimes = new ArrayList<>();//mixed-scenario time
+        private List<Long> decreaseRefreshTimes = new ArrayList<>();//fused threshold-decrease plus working-share update time
+        private List<Long> catchUpTimes = new ArrayList<>();//CATCH_UP_ROUNDS working- and master-share updates, round by round
+        private List<Long> coalescedCatchUpTimes = new ArrayList<>();//the same number of rounds through updateRounds
+        private List<Long> coalescedWorkingShareUpdateTimes = new ArrayList<>();//workingShareUpdateRounds time, all rounds at once
+        private List<Long> coalescedMasterShareUpdateTimes = new ArrayList<>();//mainShareUpdateRounds time, all rounds at once
 
 
         public void addInitTime(long time) { initTimes.add(time); }
@@ -915,9 +1122,15 @@ public class DynamicThresholdSecretSharingVersion9App {
         public void addThresholdUpTime(long time) {thresholdUpTimes.add(time);}
         public void addWorkingShareUpdateTime(long time) { workingShareUpdateTimes.add(time); }
         public void addMasterShareUpdateTime(long time) { masterShareUpdateTimes.add(time); }
-        public void addWorkingSharesRecoveryTime(long time) { workingSharesRecoveryTimes.add(time); }
-        public void addMainSharesRecoveryTime(long time) { mainSharesRecoveryTimes.add(time); }
+        // Recoveries may run concurrently on one instance
+        public synchronized void addWorkingSharesRecoveryTime(long time) { workingSharesRecoveryTimes.add(time); }
+        public synchronized void addMainSharesRecoveryTime(long time) { mainSharesRecoveryTimes.add(time); }
         public void addMixedScenarioTime(long time) { mixedScenarioTimes.add(time); }
+        public void addDecreaseRefreshTime(long time) { decreaseRefreshTimes.add(time); }
+        public void addCatchUpTime(long time) { catchUpTimes.add(time); }
+        public void addCoalescedCatchUpTime(long time) { coalescedCatchUpTimes.add(time); }
+        public void addCoalescedWorkingShareUpdateTime(long time) { coalescedWorkingShareUpdateTimes.add(time); }
+        public void addCoalescedMasterShareUpdateTime(long time) { coalescedMasterShareUpdateTimes.add(time); }
 
         /**
          * Print performance statistics
@@ -945,6 +1158,16 @@ public class DynamicThresholdSecretSharingVersion9App {
                     calculateAverage(mainSharesRecoveryTimes) / 1e6, calculateStdDev(mainSharesRecoveryTimes) / 1e6);
             if (!mixedScenarioTimes.isEmpty()) System.out.printf("Average mixed-scenario total time: %.3f ms (std dev: %.3f ms)\n",
                     calculateAverage(mixedScenarioTimes) / 1e6, calculateStdDev(mixedScenarioTimes) / 1e6);
+            if (!decreaseRefreshTimes.isEmpty()) System.out.printf("Average fused decrease-refresh time: %.3f ms (std dev: %.3f ms)\n",
+                    calculateAverage(decreaseRefreshTimes) / 1e6, calculateStdDev(decreaseRefreshTimes) / 1e6);
+            if (!catchUpTimes.isEmpty()) System.out.printf("Average round-by-round catch-up time: %.3f ms (std dev: %.3f ms)\n",
+                    calculateAverage(catchUpTimes) / 1e6, calculateStdDev(catchUpTimes) / 1e6);
+            if (!coalescedCatchUpTimes.isEmpty()) System.out.printf("Average coalesced catch-up time: %.3f ms (std dev: %.3f ms)\n",
+                    calculateAverage(coalescedCatchUpTimes) / 1e6, calculateStdDev(coalescedCatchUpTimes) / 1e6);
+            if (!coalescedWorkingShareUpdateTimes.isEmpty()) System.out.printf("Average coalesced working-share update time: %.3f ms (std dev: %.3f ms)\n",
+                    calculateAverage(coalescedWorkingShareUpdateTimes) / 1e6, calculateStdDev(coalescedWorkingShareUpdateTimes) / 1e6);
+            if (!coalescedMasterShareUpdateTimes.isEmpty()) System.out.printf("Average coalesced master-share update time: %.3f ms (std dev: %.3f ms)\n",
+                    calculateAverage(coalescedMasterShareUpdateTimes) / 1e6, calculateStdDev(coalescedMasterShareUpdateTimes) / 1e6);
 
 
             System.out.println("\nTime distribution (ms):");
@@ -957,6 +1180,11 @@ public class DynamicThresholdSecretSharingVersion9App {
             System.out.printf("Working-share recovery: %s\n", formatTimeStats(workingSharesRecoveryTimes));
             System.out.printf("Master-share recovery: %s\n", formatTimeStats(mainSharesRecoveryTimes));
             System.out.printf("Mixed scenario: %s\n", formatTimeStats(mixedScenarioTimes));
+            System.out.printf("Fused decrease-refresh: %s\n", formatTimeStats(decreaseRefreshTimes));
+            System.out.printf("Round-by-round catch-up: %s\n", formatTimeStats(catchUpTimes));
+            System.out.printf("Coalesced catch-up: %s\n", formatTimeStats(coalescedCatchUpTimes));
+            System.out.printf("Coalesced working-share update: %s\n", formatTimeStats(coalescedWorkingShareUpdateTimes));
+            System.out.printf("Coalesced master-share update: %s\n", formatTimeStats(coalescedMasterShareUpdateTimes));
         }
 
         private double calculateAverage(List<Long> times) {
@@ -993,6 +1221,11 @@ public class DynamicThresholdSecretSharingVersion9App {
             this.workingSharesRecoveryTimes.addAll(other.workingSharesRecoveryTimes);
             this.mainSharesRecoveryTimes.addAll(other.mainSharesRecoveryTimes);
             this.mixedScenarioTimes.addAll(other.mixedScenarioTimes);
+            this.decreaseRefreshTimes.addAll(other.decreaseRefreshTimes);
+            this.catchUpTimes.addAll(other.catchUpTimes);
+            this.coalescedCatchUpTimes.addAll(other.coalescedCatchUpTimes);
+            this.coalescedWorkingShareUpdateTimes.addAll(other.coalescedWorkingShareUpdateTimes);
+            this.coalescedMasterShareUpdateTimes.addAll(other.coalescedMasterShareUpdateTimes);
         }
     }
 
@@ -1002,92 +1235,237 @@ public class DynamicThresholdSecretSharingVersion9App {
      */
     private static class BivariatePolynomial {
         private int degree;
-        private BigInteger p;
-        public BigInteger[][] coefficients;
+        private final Field field;
+        private final int limbs;
+        // Packed upper triangle a_ij (i ≤ j) in row order, t(t+1)/2 entries of field.limbs() longs; a_ji is a_ij
+        private final long[] coefficients;
 
         /**
-         * Constructor: create bivariate polynomial
+         * Constructor: create bivariate polynomial with constant term constantTerm[constantOffset]
          */
-        public BivariatePolynomial(int threshold, BigInteger p, BigInteger constantTerm, boolean verbose) {
+        public BivariatePolynomial(int threshold, Field field, long[] constantTerm, int constantOffset, boolean verbose) {
             this.degree = threshold - 1;
-            this.p = p;
-            this.coefficients = new BigInteger[threshold][threshold];
-
-            // Initialise all coefficients to zero
-            for (int i = 0; i < threshold; i++) {
-                for (int j = 0; j < threshold; j++) {
-                    coefficients[i][j] = BigInteger.ZERO;
-                }
-            }
+            this.field = field;
+            this.limbs = field.limbs();
+            // All coefficients start at zero
+            this.coefficients = field.newElements(threshold * (threshold + 1) / 2);
 
             // Set constant term to secret value
-            coefficients[0][0] = constantTerm.mod(p);
+            field.copy(constantTerm, constantOffset, coefficients, 0);
             if (verbose) {
-                System.out.println("  Constant term a_00 = " + constantTerm + " (secret value)");
+                System.out.println("  Constant term a_00 = " + field.toBigInteger(coefficients, 0) + " (secret value)");
             }
 
-            // Use Bouncy Castle secure random generator
-            SecureRandom secureRandom = BCCryptoUtils.createSecureRandom(null);
-            int coefficientCount = 0;
+            // Upper-triangular part (diagonal included) after a_00, pre-generated by the background pool;
+            // the lower triangle is the same storage
+            RandomnessPool.shared(field).take(threshold, coefficients, limbs);
+            int coefficientCount = RandomnessPool.blockElements(threshold);
 
-            // Generate only lower-triangular part (diagonal included), then symmetrically copy to upper-triangular
-            for (int i = 0; i < threshold; i++) {
-                for (int j = i; j < threshold; j++) {
-                    if (i == 0 && j == 0) continue; // constant term already set
+            if (verbose) {
+                System.out.println("  Generated " + coefficientCount + " random coefficients");
+            }
+        }
+
+        /**
+         * Constructor: zero constant term, every other packed coefficient k set to element k of the expansion
+         */
+        public BivariatePolynomial(int threshold, Field field, CounterModeExpander expander) {
+            this.degree = threshold - 1;
+            this.field = field;
+            this.limbs = field.limbs();
+            int count = threshold * (threshold + 1) / 2;
+            this.coefficients = field.newElements(count);
+            expander.fill(field, 1, count - 1, coefficients, limbs);
+        }
 
-                    // Generate secure random coefficient
-                    BigInteger coeff = new BigInteger(p.bitLength() - 1, secureRandom).mod(p);
+        public int threshold() {
+            return degree + 1;
+        }
 
-                    coefficients[i][j] = coeff;
-                    if (i != j) {
-                        coefficients[j][i] = coeff; // strict symmetry
-                    }
-                    coefficientCount++;
-                }
+        /**
+         * Offset of a_ij (= a_ji) in the packed coefficient array
+         */
+        private int offset(int i, int j) {
+            if (i > j) {
+                int tmp = i;
+                i = j;
+                j = tmp;
             }
+            int t = degree + 1;
+            return (i * t - i * (i - 1) / 2 + (j - i)) * limbs;
+        }
 
-            if (verbose) {
-                System.out.println("  Generated " + coefficientCount + " random coefficients");
+        /**
+         * Set a_ij and, by symmetry, a_ji
+         */
+        public void setCoefficient(int i, int j, long[] value, int valueOffset) {
+            field.copy(value, valueOffset, coefficients, offset(i, j));
+        }
+
+        /**
+         * Set a_ij (and a_ji) to coefficient b_kl of another polynomial over the same field
+         */
+        public void setCoefficient(int i, int j, BivariatePolynomial other, int k, int l) {
+            field.copy(other.coefficients, other.offset(k, l), coefficients, offset(i, j));
+        }
+
+        public void copyCoefficient(int i, int j, long[] r, int ro) {
+            field.copy(coefficients, offset(i, j), r, ro);
+        }
+
+        /**
+         * this += other coefficient-wise; both polynomials must have the same threshold
+         */
+        public void addInPlace(BivariatePolynomial other) {
+            for (int o = 0; o < coefficients.length; o += limbs) {
+                field.add(coefficients, o, other.coefficients, o, coefficients, o);
             }
         }
 
-        public void setCoefficient(int i, int j, BigInteger value) {
-            coefficients[i][j] = value.mod(p);
+        public boolean coefficientEquals(int i, int j, BivariatePolynomial other, int k, int l) {
+            return field.equals(coefficients, offset(i, j), other.coefficients, other.offset(k, l));
         }
 
         /**
-         * Evaluate polynomial at point (x,y)
+         * Evaluate polynomial at point (x,y) into r[ro]
          * Corresponds to Section 4.2 polynomial evaluation
          */
-        public BigInteger evaluate(BigInteger x, BigInteger y) {
-            BigInteger result = BigInteger.ZERO;
-            for (int i = 0; i <= degree; i++) {
-                for (int j = 0; j <= degree; j++) {
-                    BigInteger term = coefficients[i][j]
-                            .multiply(x.pow(i))
-                            .multiply(y.pow(j))
-                            .mod(p);
-                    result = result.add(term).mod(p);
+        public void evaluate(long[] x, int xo, long[] y, int yo, long[] r, int ro) {
+            // Row sums sum_j a_ij y^j against a y-power vector, then sum_i row_i x^i; every sum is reduced once
+            int t = degree + 1;
+            long[] yPowers = field.newElements(t + 2);
+            int xPower = t * limbs, row = (t + 1) * limbs;
+            field.fromLong(1, yPowers, 0);
+            for (int j = 1; j < t; j++) {
+                field.mul(yPowers, (j - 1) * limbs, y, yo, yPowers, j * limbs);
+            }
+            field.fromLong(1, yPowers, xPower);
+            int accLimbs = field.accumulatorLimbs();
+            long[] acc = new long[2 * accLimbs];
+            field.clearAccumulator(acc, accLimbs);
+            for (int i = 0; i < t; i++) {
+                field.clearAccumulator(acc, 0);
+                for (int j = 0; j < t; j++) {
+                    field.accumulateProduct(acc, 0, coefficients, offset(i, j), yPowers, j * limbs);
                 }
+                field.reduceAccumulator(acc, 0, yPowers, row);
+                field.accumulateProduct(acc, accLimbs, yPowers, row, yPowers, xPower);
+                field.mul(yPowers, xPower, x, xo, yPowers, xPower);
             }
-            return result;
+            field.reduceAccumulator(acc, accLimbs, r, ro);
+        }
+
+        /**
+         * Evaluate polynomial at point (x,y) given as integers
+         */
+        public BigInteger evaluate(BigInteger x, BigInteger y) {
+            long[] w = field.newElements(3);
+            field.fromBigInteger(x, w, 0);
+            field.fromBigInteger(y, w, limbs);
+            evaluate(w, 0, w, limbs, w, 2 * limbs);
+            return field.toBigInteger(w, 2 * limbs);
         }
 
         /**
-         * Evaluate polynomial at given x, yielding univariate polynomial in y
+         * Evaluate polynomial at x = point of the power table, yielding univariate polynomial in y
          * Corresponds to Section 4.3.1 master-share computation
          */
-        public UnivariatePolynomial evaluateAtX(BigInteger x) {
-            BigInteger[] newCoeffs = new BigInteger[degree + 1];
-            for (int j = 0; j <= degree; j++) {
-                BigInteger coeff = BigInteger.ZERO;
-                for (int i = 0; i <= degree; i++) {
-                    BigInteger term = coefficients[i][j].multiply(x.pow(i)).mod(p);
-                    coeff = coeff.add(term).mod(p);
+        public UnivariatePolynomial evaluateAtX(PowerTable powers, int point) {
+            int t = degree + 1;
+            powers.ensureWidth(t);
+            long[] pw = powers.powers();
+            int po = powers.offset(point, 0);
+            long[] newCoeffs = field.newElements(t);
+            // One unreduced accumulator per output coefficient, reduced after the pass
+            int accLimbs = field.accumulatorLimbs();
+            long[] acc = new long[t * accLimbs];
+            for (int j = 0; j < t; j++) {
+                field.clearAccumulator(acc, j * accLimbs);
+            }
+
+            // One streaming pass over the packed triangle: a_ij feeds column j with x^i and column i with x^j
+            int c = 0;
+            for (int i = 0; i < t; i++) {
+                for (int j = i; j < t; j++, c += limbs) {
+                    field.accumulateProduct(acc, j * accLimbs, coefficients, c, pw, po + i * limbs);
+                    if (i != j) {
+                        field.accumulateProduct(acc, i * accLimbs, coefficients, c, pw, po + j * limbs);
+                    }
                 }
-                newCoeffs[j] = coeff;
             }
-            return new UnivariatePolynomial(newCoeffs, p);
+            for (int j = 0; j < t; j++) {
+                field.reduceAccumulator(acc, j * accLimbs, newCoeffs, j * limbs);
+            }
+            return new UnivariatePolynomial(newCoeffs, field);
+        }
+
+        /**
+         * Evaluate at every point of the power table at once: row p of V·A is f(x_p, y), where V is the Vandermonde
+         * block of the table and A the coefficient matrix; column 0 of the product holds the working shares
+         * Corresponds to Section 4.3.1 master-share computation for all participants
+         */
+        public UnivariatePolynomial[] evaluateAtAllX(PowerTable powers, int count) {
+            int t = degree + 1;
+            powers.ensureWidth(t);
+            long[][] rows = new long[count][];
+            for (int p = 0; p < count; p++) {
+                rows[p] = field.newElements(t);
+            }
+            long[] dense = denseCoefficients();
+            if (count == powers.count() && SubproductTree.worthwhile(field, count, t)) {
+                // Column j of V·A is the polynomial sum_i a_ij x^i evaluated at every point
+                SubproductTree tree = powers.subproductTree();
+                long[] column = field.newElements(count);
+                for (int j = 0; j < t; j++) {
+                    tree.evaluate(dense, j * limbs, t * limbs, t, column, 0);
+                    for (int p = 0; p < count; p++) {
+                        field.copy(column, p * limbs, rows[p], j * limbs);
+                    }
+                }
+            } else if (count >= ModularMatrixKernel.PARALLEL_ROWS) {
+                ModularMatrixKernel.multiplyParallel(field, powers.powers(), powers.width(), count, t, dense, t, rows);
+            } else {
+                ModularMatrixKernel.multiply(field, powers.powers(), powers.width(), count, t, dense, t, rows);
+            }
+            UnivariatePolynomial[] shares = new UnivariatePolynomial[count];
+            for (int p = 0; p < count; p++) {
+                shares[p] = new UnivariatePolynomial(rows[p], field);
+            }
+            return shares;
+        }
+
+        /**
+         * Unpack the triangle into a dense row-major t×t matrix for the matrix kernel
+         */
+        private long[] denseCoefficients() {
+            int t = degree + 1;
+            long[] dense = field.newElements(t * t);
+            int c = 0;
+            for (int i = 0; i < t; i++) {
+                for (int j = i; j < t; j++, c += limbs) {
+                    field.copy(coefficients, c, dense, (i * t + j) * limbs);
+                    field.copy(coefficients, c, dense, (j * t + i) * limbs);
+                }
+            }
+            return dense;
+        }
+
+        /**
+         * Evaluate f(x_p, 0) at every point of the power table into r[ro + p·limbs]
+         * Corresponds to the working-share definition T_i = f(ID_i, 0) for all participants
+         */
+        public void evaluateAtYZeroAll(PowerTable powers, long[] r, int ro) {
+            // Column 0 equals row 0, which is contiguous at the start of the packed array
+            evaluateAtAllPoints(field, powers, coefficients, degree + 1, r, ro);
+        }
+
+        /**
+         * Evaluate f(x_p, 0) into r[ro]: only column 0 contributes, so this is a single dot product
+         * Corresponds to the working-share definition T_i = f(ID_i, 0)
+         */
+        public void evaluateAtYZero(PowerTable powers, int point, long[] r, int ro) {
+            // Column 0 equals row 0, which is contiguous at the start of the packed array
+            powers.dot(coefficients, 0, limbs, degree + 1, point, r, ro);
         }
 
         @Override
@@ -1098,18 +1476,18 @@ public class DynamicThresholdSecretSharingVersion9App {
 
             for (int i = 0; i <= degree; i++) {
                 for (int j = 0; j <= degree; j++) {
-                    if (coefficients[i][j].compareTo(BigInteger.ZERO) != 0) {
+                    if (!field.isZero(coefficients, offset(i, j))) {
                         if (!firstTerm) {
                             sb.append(" + ");
                         }
-                        sb.append(coefficients[i][j]);
+                        sb.append(field.toBigInteger(coefficients, offset(i, j)));
                         if (i > 0) sb.append("x^").append(i);
                         if (j > 0) sb.append("y^").append(j);
                         firstTerm = false;
                     }
                 }
             }
-            sb.append(" mod ").append(p);
+            sb.append(" mod ").append(field.modulus());
             return sb.toString();
         }
     }
@@ -1119,24 +1497,55 @@ public class DynamicThresholdSecretSharingVersion9App {
      * Corresponds to Section 4.3.1 master-share definition
      */
     private static class UnivariatePolynomial {
-        private BigInteger[] coefficients;
-        private BigInteger p;
+        private final long[] coefficients;
+        private final Field field;
+        private final int limbs;
 
-        public UnivariatePolynomial(BigInteger[] coefficients, BigInteger p) {
+        public UnivariatePolynomial(long[] coefficients, Field field) {
             this.coefficients = coefficients;
-            this.p = p;
+            this.field = field;
+            this.limbs = field.limbs();
+        }
+
+        public int degree() {
+            return coefficients.length / limbs - 1;
+        }
+
+        /**
+         * Copy the constant term S(0) into r[ro]
+         */
+        public void constantTerm(long[] r, int ro) {
+            field.copy(coefficients, 0, r, ro);
+        }
+
+        public void copyCoefficient(int k, long[] r, int ro) {
+            field.copy(coefficients, k * limbs, r, ro);
         }
 
         /**
-         * Evaluate polynomial at given y
+         * Evaluate polynomial at given y into r[ro]
          */
-        public BigInteger evaluate(BigInteger y) {
-            BigInteger result = BigInteger.ZERO;
-            for (int i = 0; i < coefficients.length; i++) {
-                BigInteger term = coefficients[i].multiply(y.pow(i)).mod(p);
-                result = result.add(term).mod(p);
+        public void evaluate(long[] y, int yo, long[] r, int ro) {
+            long[] acc = field.newElements(1);
+            for (int i = degree(); i >= 0; i--) {
+                field.mul(acc, 0, y, yo, acc, 0);
+                field.add(acc, 0, coefficients, i * limbs, acc, 0);
             }
-            return result;
+            field.copy(acc, 0, r, ro);
+        }
+
+        /**
+         * Evaluate polynomial at y = point of the power table into r[ro]
+         */
+        public void evaluate(PowerTable powers, int point, long[] r, int ro) {
+            powers.dot(coefficients, 0, limbs, degree() + 1, point, r, ro);
+        }
+
+        /**
+         * Evaluate at every point of the power table into r[ro + p·limbs]
+         */
+        public void evaluateAll(PowerTable powers, long[] r, int ro) {
+            evaluateAtAllPoints(field, powers, coefficients, degree() + 1, r, ro);
         }
 
         /**
@@ -1145,15 +1554,14 @@ public class DynamicThresholdSecretSharingVersion9App {
          */
         public UnivariatePolynomial add(UnivariatePolynomial other) {
             int maxLength = Math.max(coefficients.length, other.coefficients.length);
-            BigInteger[] newCoeffs = new BigInteger[maxLength];
+            long[] newCoeffs = new long[maxLength];
+            System.arraycopy(coefficients, 0, newCoeffs, 0, coefficients.length);
 
-            for (int i = 0; i < maxLength; i++) {
-                BigInteger coeff1 = (i < coefficients.length) ? coefficients[i] : BigInteger.ZERO;
-                BigInteger coeff2 = (i < other.coefficients.length) ? other.coefficients[i] : BigInteger.ZERO;
-                newCoeffs[i] = coeff1.add(coeff2).mod(p);
+            for (int o = 0; o < other.coefficients.length; o += limbs) {
+                field.add(newCoeffs, o, other.coefficients, o, newCoeffs, o);
             }
 
-            return new UnivariatePolynomial(newCoeffs, p);
+            return new UnivariatePolynomial(newCoeffs, field);
         }
 
         @Override
@@ -1162,12 +1570,12 @@ public class DynamicThresholdSecretSharingVersion9App {
             sb.append("S(y) = ");
             boolean firstTerm = true;
 
-            for (int i = 0; i < coefficients.length; i++) {
-                if (coefficients[i].compareTo(BigInteger.ZERO) != 0) {
+            for (int i = 0; i <= degree(); i++) {
+                if (!field.isZero(coefficients, i * limbs)) {
                     if (!firstTerm) {
                         sb.append(" + ");
                     }
-                    sb.append(coefficients[i]);
+                    sb.append(field.toBigInteger(coefficients, i * limbs));
                     if (i > 0) {
                         sb.append("y");
                         if (i > 1) sb.append("^").append(i);
@@ -1175,11 +1583,216 @@ public class DynamicThresholdSecretSharingVersion9App {
                     firstTerm = false;
                 }
             }
-            sb.append(" mod ").append(p);
+            sb.append(" mod ").append(field.modulus());
             return sb.toString();
         }
     }
 
+    /**
+     * r[ro + p·limbs] = sum_{k < length} coeffs[k] · x_p^k for every point of the power table, through the
+     * subproduct tree when the sizes make it pay and one power-table dot product per point otherwise
+     */
+    private static void evaluateAtAllPoints(Field field, PowerTable powers, long[] coeffs, int length, long[] r, int ro) {
+        int limbs = field.limbs();
+        if (SubproductTree.worthwhile(field, powers.count(), length)) {
+            powers.subproductTree().evaluate(coeffs, 0, limbs, length, r, ro);
+            return;
+        }
+        for (int p = 0; p < powers.count(); p++) {
+            powers.dot(coeffs, 0, limbs, length, p, r, ro + p * limbs);
+        }
+    }
+
+    /**
+     * Per-thread recovery buffers sized for a quorum of all n participants, so that a recovery allocates nothing
+     * Also memoises the Lagrange coefficients of the thread's last few quorums, least recently used out first, which
+     * skips the shared cache's key allocation and locking while a thread cycles through a handful of quorums
+     * Holds the thread's LagrangeEngine too: the engine computes in its own scratch arrays, and the shared cache
+     * runs it outside its lock, so concurrent recoveries on one instance must not share an engine
+     */
+    private final class RecoveryScratch {
+        private final LagrangeEngine lagrange;
+        private final long[] components;
+        private final long[] publishedValues;
+        private final long[] negative;
+        private final long[] secret;
+        private final long[] accumulators; // two accumulators, for added and subtracted pairing keys
+        private final QuorumMemo[] memo = new QuorumMemo[QUORUM_MEMO_ENTRIES];
+        private long uses;
+
+        RecoveryScratch(Field field, int n) {
+            this.lagrange = new LagrangeEngine(field);
+            this.components = field.newElements(n);
+            this.publishedValues = field.newElements(n);
+            this.negative = field.newElements(1);
+            this.secret = field.newElements(1);
+            this.accumulators = new long[2 * field.accumulatorLimbs()];
+            for (int e = 0; e < memo.length; e++) {
+                memo[e] = new QuorumMemo();
+            }
+        }
+
+        /**
+         * L_m(0) for the quorum, in its order; taken from the shared cache when the quorum is not memoised
+         */
+        long[] lagrangeCoefficients(List<Integer> participantIndices) {
+            int count = participantIndices.size();
+            QuorumMemo oldest = memo[0];
+            for (QuorumMemo entry : memo) {
+                if (entry.matches(participantIndices, count)) {
+                    entry.lastUse = ++uses;
+                    return entry.coefficients;
+                }
+                if (entry.lastUse < oldest.lastUse) {
+                    oldest = entry;
+                }
+            }
+
+            // The entry only becomes valid once the coefficients are filled, so a failed call leaves none
+            QuorumMemo entry = oldest;
+            entry.size = -1;
+            if (entry.quorum.length < count) {
+                entry.quorum = new int[count];
+                entry.coefficients = field.newElements(count);
+            }
+            for (int m = 0; m < count; m++) {
+                entry.quorum[m] = participantIndices.get(m);
+            }
+            lagrangeCache.coefficientsAtZero(lagrange, idElements, entry.quorum, count, entry.coefficients, 0);
+            entry.size = count;
+            entry.lastUse = ++uses;
+            return entry.coefficients;
+        }
+    }
+
+    /**
+     * One memoised quorum, in the caller's order, with its Lagrange coefficients; buffers grow to the largest
+     * quorum the entry has held
+     */
+    private static final class QuorumMemo {
+        private int[] quorum = new int[0];
+        private long[] coefficients;
+        private int size = -1;
+        private long lastUse;
+
+        boolean matches(List<Integer> participantIndices, int count) {
+            if (size != count) {
+                return false;
+            }
+            for (int m = 0; m < count; m++) {
+                if (quorum[m] != participantIndices.get(m)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Pairing-key matrix K_ij = f(ID_i, ID_j) of one main polynomial, i.e. one epoch
+     * Symmetric, so K_ij with i ≤ j is kept in row i at position j - i. Nothing is allocated up front: a row's
+     * storage and the polynomial f(ID_i, y) it is dotted from are created when the row is first touched, and each
+     * entry is computed on first use, so an epoch costs the keys threshold decrease and recoveries actually read
+     * rather than n² elements. Entries are filled under the matrix lock and published through the row's atomic
+     * bitmap, so concurrent recoveries on one instance never read a half-written key
+     */
+    private static class PairingKeyMatrix {
+        private final BivariatePolynomial polynomial;
+        private final PowerTable powers;
+        private final Field field;
+        private final int limbs;
+        private final int n;
+        private final AtomicReferenceArray<KeyRow> rows;
+
+        public PairingKeyMatrix(BivariatePolynomial polynomial, PowerTable powers, int n) {
+            this.polynomial = polynomial;
+            this.powers = powers;
+            this.field = polynomial.field;
+            this.limbs = field.limbs();
+            this.n = n;
+            this.rows = new AtomicReferenceArray<>(n);
+        }
+
+        /**
+         * Array holding K_ij = K_ji, computing the entry if this epoch has not needed it yet; read it at key(i, j)
+         */
+        public long[] keys(int i, int j) {
+            return i <= j ? entry(i, j).keys : entry(j, i).keys;
+        }
+
+        /**
+         * Offset of K_ij = K_ji in keys(i, j), computing the entry if this epoch has not needed it yet
+         */
+        public int key(int i, int j) {
+            if (i > j) {
+                int tmp = i;
+                i = j;
+                j = tmp;
+            }
+            entry(i, j);
+            return (j - i) * limbs;
+        }
+
+        /**
+         * Row i with K_ij (i ≤ j) computed
+         */
+        private KeyRow entry(int i, int j) {
+            KeyRow row = rows.get(i);
+            if (row == null || !row.isKnown(j - i)) {
+                row = fill(i, j);
+            }
+            return row;
+        }
+
+        /**
+         * Compute K_ij, creating row i first if needed; also serialises use of the shared power table's accumulator
+         */
+        private synchronized KeyRow fill(int i, int j) {
+            KeyRow row = rows.get(i);
+            if (row == null) {
+                row = new KeyRow(polynomial.evaluateAtX(powers, i), n - i, limbs);
+                rows.set(i, row);
+            }
+            int position = j - i;
+            if (!row.isKnown(position)) {
+                row.polynomial.evaluate(powers, j, row.keys, position * limbs);
+                row.markKnown(position);
+            }
+            return row;
+        }
+    }
+
+    /**
+     * One row of a PairingKeyMatrix: f(ID_i, y), the keys K_ij for j ≥ i and a bitmap of those already computed
+     */
+    private static final class KeyRow {
+        private final UnivariatePolynomial polynomial;
+        private final long[] keys;
+        private final AtomicLongArray known;
+
+        KeyRow(UnivariatePolynomial polynomial, int count, int limbs) {
+            long length = (long) count * limbs;
+            if (length > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Pairing-key row of " + count + " elements exceeds the maximum array size");
+            }
+            this.polynomial = polynomial;
+            this.keys = new long[(int) length];
+            this.known = new AtomicLongArray((count + 63) >>> 6);
+        }
+
+        boolean isKnown(int position) {
+            return (known.get(position >>> 6) & (1L << position)) != 0;
+        }
+
+        /**
+         * Publish an entry whose value is already written; callers hold the matrix lock, so there is one writer
+         */
+        void markKnown(int position) {
+            int w = position >>> 6;
+            known.set(w, known.get(w) | (1L << position));
+        }
+    }
+
     /**
      * Threshold-test task class
      */
@@ -1188,12 +1801,14 @@ public class DynamicThresholdSecretSharingVersion9App {
         private final int numExperiments;
         private final boolean verbose;
         private final String testType;
+        private final Field field;
 
-        public ThresholdTestTask(int threshold, int numExperiments, boolean verbose, String testType) {
+        public ThresholdTestTask(int threshold, int numExperiments, boolean verbose, String testType, Field field) {
             this.threshold = threshold;
             this.numExperiments = numExperiments;
             this.verbose = verbose;
             this.testType = testType;
+            this.field = field;
         }
 
         @Override
@@ -1203,13 +1818,13 @@ public class DynamicThresholdSecretSharingVersion9App {
             int successCount = 0;
             int failureCount = 0;
 
-            System.out.printf("[%s] Starting tests for threshold t=%d (%d experiments, test type: %s)\n", threadName, threshold, numExperiments, testType);
+            System.out.printf("[%s] Starting tests for threshold t=%d (%d experiments, test type: %s, field: %s)\n", threadName, threshold, numExperiments, testType, field.name());
 
             for (int exp = 0; exp < numExperiments; exp++) {
                 try {
                     boolean expVerbose = verbose && (exp == 0); // each thread logs only first experiment in detail
                     // Create system instance
-                    DynamicThresholdSecretSharingVersion9App system = new DynamicThresholdSecretSharingVersion9App(NUM_PARTICIPANTS, threshold, expVerbose);
+                    DynamicThresholdSecretSharingVersion9App system = new DynamicThresholdSecretSharingVersion9App(NUM_PARTICIPANTS, threshold, expVerbose, field);
 
                     // 1. System initialisation
                     system.systemInitialization(system.secret);
@@ -1226,6 +1841,30 @@ public class DynamicThresholdSecretSharingVersion9App {
                             //system.mainShareUpdate("test_update", 1);
                             break;
 
+                        case "rotation":
+                            // Standard rotation: decrease fused with the working-share update
+                            int rotatedThreshold = threshold - 3;
+                            if (rotatedThreshold >= 2) {
+                                system.thresholdDecreaseWithRefresh(rotatedThreshold, "test_update", 1);
+                            } else {
+                                system.workingShareUpdate("test_update", 1);
+                            }
+                            break;
+
+                        case "catch-up":
+                            // CATCH_UP_ROUNDS refreshes of both share types round by round, then as many more coalesced
+                            long catchUpStart = System.nanoTime();
+                            for (int round = 1; round <= CATCH_UP_ROUNDS; round++) {
+                                system.workingShareUpdate("catch_up", round);
+                                system.mainShareUpdate("catch_up", round);
+                            }
+                            long coalescedStart = System.nanoTime();
+                            system.updateRounds("catch_up", CATCH_UP_ROUNDS + 1, 2 * CATCH_UP_ROUNDS);
+                            long coalescedEnd = System.nanoTime();
+                            threadStats.addCatchUpTime(coalescedStart - catchUpStart);
+                            threadStats.addCoalescedCatchUpTime(coalescedEnd - coalescedStart);
+                            break;
+
                         case "Pre-expansion":
                             // Threshold-expansion test, INCREASE_THRESHOLDS is extension degree
                             if (expVerbose) {
@@ -1320,6 +1959,15 @@ public class DynamicThresholdSecretSharingVersion9App {
                     if (system.stats.masterShareUpdateTimes.size() > 0) {
                         threadStats.addMasterShareUpdateTime(system.stats.masterShareUpdateTimes.get(0));
                     }
+                    if (system.stats.coalescedWorkingShareUpdateTimes.size() > 0) {
+                        threadStats.addCoalescedWorkingShareUpdateTime(system.stats.coalescedWorkingShareUpdateTimes.get(0));
+                    }
+                    if (system.stats.coalescedMasterShareUpdateTimes.size() > 0) {
+                        threadStats.addCoalescedMasterShareUpdateTime(system.stats.coalescedMasterShareUpdateTimes.get(0));
+                    }
+                    if (system.stats.decreaseRefreshTimes.size() > 0) {
+                        threadStats.addDecreaseRefreshTime(system.stats.decreaseRefreshTimes.get(0));
+                    }
                     if (system.stats.workingSharesRecoveryTimes.size() > 0) {
                         threadStats.addWorkingSharesRecoveryTime(system.stats.workingSharesRecoveryTimes.get(0));
                     }
@@ -1334,10 +1982,10 @@ public class DynamicThresholdSecretSharingVersion9App {
                 }
             }
 
-            System.out.printf("[%s] Threshold t=%d (type: %s) test complete: %d success, %d failure\n",
-                    threadName, threshold, testType, successCount, failureCount);
+            System.out.printf("[%s] Threshold t=%d (type: %s, field: %s) test complete: %d success, %d failure\n",
+                    threadName, threshold, testType, field.name(), successCount, failureCount);
 
-            return new ThresholdTestResult(threshold, threadStats, successCount, failureCount, testType);
+            return new ThresholdTestResult(threshold, threadStats, successCount, failureCount, testKey(testType, field));
         }
     }
 
@@ -1349,7 +1997,7 @@ public class DynamicThresholdSecretSharingVersion9App {
         final PerformanceStats stats;
         final int successCount;
         final int failureCount;
-        final String testType;
+        final String testType; // test type and field backend, see testKey
 
         public ThresholdTestResult(int threshold, PerformanceStats stats, int successCount, int failureCount, String testType) {
             this.threshold = threshold;
@@ -1366,7 +2014,9 @@ public class DynamicThresholdSecretSharingVersion9App {
         System.out.println("Starting dynamic-threshold secret-sharing system performance test (strictly follows paper)...");
         System.out.println("Parameters: n=" + NUM_PARTICIPANTS + ", thresholds=" + Arrays.toString(THRESHOLDS));
         System.out.println("Experiments: " + NUM_EXPERIMENTS);
-        System.out.println("Prime bits: " + PRIME_BIT_LENGTH);
+        List<Field> fields = benchmarkFields();
+        System.out.println("Prime bits: " + Arrays.toString(PRIME_BIT_LENGTHS));
+        System.out.println("Field backends: " + fields.stream().map(Field::name).reduce((a, b) -> a + ", " + b).orElse(""));
         System.out.println("Thread-pool size: " + THREAD_POOL_SIZE);
         System.out.println();
 
@@ -1380,8 +2030,14 @@ public class DynamicThresholdSecretSharingVersion9App {
         // Initialise statistics maps
         //String[] testTypes = {"increase"};//Threshold Increase
         //String[] testTypes = {"basic","Pre-expansion","mixed"};
-        String[] testTypes = {"basic", "increase","Pre-expansion","mixed"};
-        for (String testType : testTypes) {
+        String[] testTypes = {"basic", "rotation", "catch-up", "increase","Pre-expansion","mixed"};
+        List<String> testKeys = new ArrayList<>();
+        for (Field field : fields) {
+            for (String testType : testTypes) {
+                testKeys.add(testKey(testType, field));
+            }
+        }
+        for (String testType : testKeys) {
             testTypeStats.put(testType, new ConcurrentHashMap<>());
             successCounts.put(testType, new ConcurrentHashMap<>());
             failureCounts.put(testType, new ConcurrentHashMap<>());
@@ -1396,13 +2052,15 @@ public class DynamicThresholdSecretSharingVersion9App {
         System.out.println("Launching multi-threaded tests...");
         long startTime = System.currentTimeMillis();
 
-        // Submit test tasks for each threshold and test type
-        for (String testType : testTypes) {
-            for (int threshold : THRESHOLDS) {
-                Future<ThresholdTestResult> future = executor.submit(
-                        new ThresholdTestTask(threshold, NUM_EXPERIMENTS, false, testType)
-                );
-                futures.add(future);
+        // Submit test tasks for each field backend, threshold and test type
+        for (Field field : fields) {
+            for (String testType : testTypes) {
+                for (int threshold : THRESHOLDS) {
+                    Future<ThresholdTestResult> future = executor.submit(
+                            new ThresholdTestTask(threshold, NUM_EXPERIMENTS, false, testType, field)
+                    );
+                    futures.add(future);
+                }
             }
         }
 
@@ -1428,7 +2086,7 @@ public class DynamicThresholdSecretSharingVersion9App {
         System.out.println("Overall performance statistics");
         System.out.println("=".repeat(80));
 
-        for (String testType : testTypes) {
+        for (String testType : testKeys) {
             System.out.println("\nTest type: " + testType);
             for (int threshold : THRESHOLDS) {
                 if (testTypeStats.get(testType).get(threshold).initTimes.isEmpty()) {
@@ -1444,12 +2102,191 @@ public class DynamicThresholdSecretSharingVersion9App {
             }
         }
 
-        // Generate chart data summary
-        generateChartSummary(mergeAllTestData(testTypeStats));
+        // Side-by-side backend comparison
+        printFieldBackendComparison(fields, testTypeStats, testTypes);
+        printByteSharingThroughput();
+        printRecoveryAllocation();
+        printUpdatePolynomialGeneration(fields);
+
+        System.out.println();
+        for (LagrangeCache cache : LagrangeCache.sharedCaches()) {
+            System.out.println(cache);
+        }
+        for (RandomnessPool pool : RandomnessPool.sharedPools()) {
+            System.out.println(pool);
+        }
+
+        // Generate chart data summary (default backend only)
+        Map<String, Map<Integer, PerformanceStats>> defaultBackendStats = new HashMap<>();
+        for (String testType : testTypes) {
+            String key = testKey(testType, FIELD_BACKENDS[0]);
+            defaultBackendStats.put(key, testTypeStats.get(key));
+        }
+        generateChartSummary(mergeAllTestData(defaultBackendStats));
 
         System.out.println("\nAll tests complete!");
     }
 
+    /**
+     * The benchmarked fields: FIELD_BACKENDS, then the catalog field of every PRIME_BIT_LENGTHS entry not already among them
+     */
+    private static List<Field> benchmarkFields() {
+        List<Field> fields = new ArrayList<>(Arrays.asList(FIELD_BACKENDS));
+        for (int bits : PRIME_BIT_LENGTHS) {
+            Field field = PrimeCatalog.field(bits);
+            if (!fields.contains(field)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Key under which results for a test type on a given field backend are collected
+     */
+    private static String testKey(String testType, Field field) {
+        return testType + " [" + field.name() + "]";
+    }
+
+    /**
+     * Print average time of every operation per field backend and threshold
+     */
+    private static void printFieldBackendComparison(List<Field> fields, Map<String, Map<Integer, PerformanceStats>> testTypeStats,
+                                                    String[] testTypes) {
+        System.out.println("\n" + "=".repeat(132));
+        System.out.println("Field backend comparison (average over all test types, ms)");
+        System.out.println("=".repeat(132));
+        System.out.println("Backend        | t  | Init     | Decrease | Pre-exp  | Up-adj   | WS update | MS update | Dec+refresh | WS recovery | MS recovery");
+        for (Field field : fields) {
+            Map<String, Map<Integer, PerformanceStats>> backendStats = new HashMap<>();
+            for (String testType : testTypes) {
+                String key = testKey(testType, field);
+                backendStats.put(key, testTypeStats.get(key));
+            }
+            Map<Integer, PerformanceStats> merged = mergeAllTestData(backendStats);
+            for (int threshold : THRESHOLDS) {
+                PerformanceStats s = merged.get(threshold);
+                System.out.printf("%-14s | %2d | %8.3f | %8.3f | %8.3f | %8.3f | %9.3f | %9.3f | %11.3f | %11.3f | %11.3f\n",
+                        field.name(), threshold,
+                        s.calculateAverage(s.initTimes) / 1e6,
+                        s.calculateAverage(s.thresholdAdjustTimes) / 1e6,
+                        s.calculateAverage(s.thresholdIncreaseTimes) / 1e6,
+                        s.calculateAverage(s.thresholdUpTimes) / 1e6,
+                        s.calculateAverage(s.workingShareUpdateTimes) / 1e6,
+                        s.calculateAverage(s.masterShareUpdateTimes) / 1e6,
+                        s.calculateAverage(s.decreaseRefreshTimes) / 1e6,
+                        s.calculateAverage(s.workingSharesRecoveryTimes) / 1e6,
+                        s.calculateAverage(s.mainSharesRecoveryTimes) / 1e6);
+            }
+        }
+    }
+
+    /**
+     * Throughput of the GF(2^8) byte-wise mode on a 256 KiB payload for every threshold
+     */
+    private static void printByteSharingThroughput() {
+        int payloadBytes = 1 << 18;
+        byte[] payload = new byte[payloadBytes];
+        new Random(1).nextBytes(payload);
+        List<Integer> participants = new ArrayList<>();
+        for (int i = 0; i < NUM_PARTICIPANTS; i++) {
+            participants.add(i);
+        }
+        double megabytes = payloadBytes / (1024.0 * 1024.0);
+
+        System.out.println("\nGF(2^8) byte-wise mode (256 KiB payload, MB/s)");
+        System.out.println(" t  | Deal     | WS update | Recovery");
+        for (int threshold : THRESHOLDS) {
+            Gf256Sharing sharing = new Gf256Sharing(NUM_PARTICIPANTS, threshold, false);
+            long start = System.nanoTime();
+            sharing.systemInitialization(payload);
+            long dealt = System.nanoTime();
+            sharing.workingShareUpdate("throughput", 1);
+            long refreshed = System.nanoTime();
+            byte[] recovered = sharing.secretRecoveryFromWorkingShares(participants.subList(0, threshold));
+            long end = System.nanoTime();
+            if (!Arrays.equals(payload, recovered)) {
+                System.out.println("✗ GF(2^8) round trip failed at t=" + threshold);
+            }
+            System.out.printf("%3d | %8.1f | %9.1f | %8.1f\n", threshold,
+                    megabytes / ((dealt - start) / 1e9),
+                    megabytes / ((refreshed - dealt) / 1e9),
+                    megabytes / ((end - refreshed) / 1e9));
+        }
+    }
+
+    /**
+     * Heap bytes allocated per warm recovery on every backend, from the JVM's per-thread allocation counter
+     */
+    private static void printRecoveryAllocation() {
+        java.lang.management.ThreadMXBean threads = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        int threshold = THRESHOLDS[0];
+        int warmup = 20000, measured = 10000;
+        // Two quorums in turn, so the probe covers switching between quorums and not only a repeated one
+        List<List<Integer>> quorums = new ArrayList<>();
+        for (int offset = 0; offset < 2; offset++) {
+            List<Integer> quorum = new ArrayList<>();
+            for (int i = 0; i < threshold; i++) {
+                quorum.add(i + offset);
+            }
+            quorums.add(quorum);
+        }
+
+        System.out.println("\nRecovery heap allocation (t=" + threshold + ", two alternating quorums, bytes per recovery after warm-up)");
+        for (Field field : FIELD_BACKENDS) {
+            DynamicThresholdSecretSharingVersion9App system =
+                    new DynamicThresholdSecretSharingVersion9App(NUM_PARTICIPANTS, threshold, false, field);
+            system.systemInitialization(system.secret);
+            long[] recovered = field.newElements(1);
+            for (int i = 0; i < warmup; i++) {
+                system.secretRecoveryFromWorkingShares(quorums.get(i & 1), recovered, 0);
+            }
+            long thread = Thread.currentThread().getId();
+            long before = allocations.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < measured; i++) {
+                system.secretRecoveryFromWorkingShares(quorums.get(i & 1), recovered, 0);
+            }
+            long after = allocations.getThreadAllocatedBytes(thread);
+            System.out.printf("%-14s | %10.1f B/op\n", field.name(), (after - before) / (double) measured);
+        }
+    }
+
+    /**
+     * Update-polynomial coefficient generation at the largest threshold: the DigestRandomGenerator path with
+     * per-coefficient rejection sampling against the counter-mode expander
+     */
+    private static void printUpdatePolynomialGeneration(List<Field> fields) {
+        int threshold = THRESHOLDS[THRESHOLDS.length - 1];
+        int count = threshold * (threshold + 1) / 2;
+        int rounds = 20;
+        byte[] seed = BigInteger.valueOf(10101010).toByteArray();
+
+        System.out.println("\nUpdate-polynomial generation (t=" + threshold + ", " + count + " coefficients, ms per polynomial)");
+        System.out.println("Backend        | DigestRandomGenerator | Counter mode | Speed-up");
+        for (Field field : fields) {
+            long[] coefficients = field.newElements(count);
+            long digestTime = Long.MAX_VALUE, counterTime = Long.MAX_VALUE;
+            for (int round = 0; round < rounds; round++) {
+                long start = System.nanoTime();
+                SecureRandom prng = BCCryptoUtils.createSecureRandom(seed);
+                for (int k = 1; k < count; k++) {
+                    BCCryptoUtils.generateSecureRandomElement(field, prng, coefficients, k * field.limbs());
+                }
+                long mid = System.nanoTime();
+                new CounterModeExpander(seed).fill(field, 1, count - 1, coefficients, field.limbs());
+                long end = System.nanoTime();
+                digestTime = Math.min(digestTime, mid - start);
+                counterTime = Math.min(counterTime, end - mid);
+            }
+            System.out.printf("%-14s | %21.3f | %12.3f | %7.2fx\n", field.name(),
+                    digestTime / 1e6, counterTime / 1e6, digestTime / (double) counterTime);
+        }
+    }
+
     /**
      * Merge data for all test types
      */
@@ -0,0 +1,164 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * Prime-field abstraction used by the dynamic-threshold secret-sharing protocol
+ * Elements are stored as limbs() little-endian 64-bit words at an offset inside a long[], so polynomials,
+ * shares and scratch values can be laid out in flat primitive arrays
+ * All arithmetic methods take fully reduced inputs, produce fully reduced outputs and allow r to alias a or b
+ */
+public interface Field {
+
+    /**
+     * Short backend name used in logs and benchmark tables
+     */
+    String name();
+
+    /**
+     * The prime modulus p
+     */
+    BigInteger modulus();
+
+    /**
+     * Number of 64-bit limbs per element
+     */
+    int limbs();
+
+    /**
+     * Store v mod p at r[ro]
+     */
+    void fromBigInteger(BigInteger v, long[] r, int ro);
+
+    /**
+     * Read the element at a[ao] as a value in [0, p)
+     */
+    BigInteger toBigInteger(long[] a, int ao);
+
+    /**
+     * Store a small non-negative value (smaller than p) at r[ro]
+     */
+    void fromLong(long v, long[] r, int ro);
+
+    /**
+     * r = a + b mod p
+     */
+    void add(long[] a, int ao, long[] b, int bo, long[] r, int ro);
+
+    /**
+     * r = a - b mod p
+     */
+    void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro);
+
+    /**
+     * r = -a mod p
+     */
+    void negate(long[] a, int ao, long[] r, int ro);
+
+    /**
+     * r = a * b mod p
+     */
+    void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro);
+
+    /**
+     * r = a^-1 mod p; throws ArithmeticException for zero
+     */
+    void inverse(long[] a, int ao, long[] r, int ro);
+
+    /**
+     * Store a uniformly random element of [0, p) at r[ro]
+     */
+    void random(SecureRandom secureRandom, long[] r, int ro);
+
+    /**
+     * Rejection step for deterministic sampling: mask the limbs() random words at words[wo] to the bit length of p
+     * and, if the value v is below p, store an element at r[ro] and return true; otherwise return false and leave
+     * r unchanged. The element is v itself, except that backends with a private representation may store v as is,
+     * since any fixed bijection of [0, p) keeps the result uniform and deterministic
+     */
+    default boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        int bits = modulus().bitLength();
+        long[] masked = Arrays.copyOfRange(words, wo, wo + limbs());
+        int top = bits - 64 * (limbs() - 1);
+        if (top < 64) {
+            masked[limbs() - 1] &= (1L << top) - 1;
+        }
+        BigInteger v = BigIntegerField.readLimbs(masked, 0, limbs());
+        if (v.compareTo(modulus()) >= 0) {
+            return false;
+        }
+        fromBigInteger(v, r, ro);
+        return true;
+    }
+
+    /**
+     * Allocate zero-initialised storage for count elements
+     */
+    default long[] newElements(int count) {
+        return new long[count * limbs()];
+    }
+
+    default void copy(long[] a, int ao, long[] r, int ro) {
+        System.arraycopy(a, ao, r, ro, limbs());
+    }
+
+    default boolean isZero(long[] a, int ao) {
+        for (int i = 0; i < limbs(); i++) {
+            if (a[ao + i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    default boolean equals(long[] a, int ao, long[] b, int bo) {
+        for (int i = 0; i < limbs(); i++) {
+            if (a[ao + i] != b[bo + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ============================ Lazy-reduction accumulators ============================
+    // Multiply-add chains (dot products, polynomial evaluation, share sums) accumulate unreduced values and
+    // reduce once at the end; backends with a wide representation override these, the defaults reduce eagerly
+
+    /**
+     * Number of longs in one accumulator
+     */
+    default int accumulatorLimbs() {
+        return 2 * limbs();
+    }
+
+    default void clearAccumulator(long[] acc, int o) {
+        for (int i = 0; i < accumulatorLimbs(); i++) {
+            acc[o + i] = 0;
+        }
+    }
+
+    /**
+     * acc += a * b
+     */
+    default void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        int temp = o + limbs();
+        mul(a, ao, b, bo, acc, temp);
+        add(acc, o, acc, temp, acc, o);
+    }
+
+    /**
+     * acc += a
+     */
+    default void accumulate(long[] acc, int o, long[] a, int ao) {
+        add(acc, o, a, ao, acc, o);
+    }
+
+    /**
+     * r = acc mod p; the accumulator is left unchanged
+     */
+    default void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        copy(acc, o, r, ro);
+    }
+}
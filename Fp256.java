@@ -0,0 +1,477 @@
+package code;
+
+import java.math.BigInteger;
+
+/**
+ * Arithmetic modulo the fixed 256-bit prime p = 2^256 - 2^32 - 977
+ * Field elements are stored as four little-endian 64-bit limbs inside a long[] at a given offset,
+ * so polynomial coefficients and shares can live in flat primitive arrays without per-operation allocation.
+ * Products are formed with Math.multiplyHigh and reduced with the pseudo-Mersenne folding 2^256 ≡ 2^32 + 977 (mod p)
+ */
+public final class Fp256 {
+
+    /** Number of 64-bit limbs per field element */
+    public static final int LIMBS = 4;
+
+    /** 2^256 - p = 2^32 + 977 */
+    private static final long C = 0x1000003D1L;
+
+    /** The prime modulus */
+    public static final BigInteger P = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(C));
+
+    private static final long P0 = -C;   // 0xFFFFFFFEFFFFFC2F
+    private static final long P1 = -1L;
+    private static final long P2 = -1L;
+    private static final long P3 = -1L;
+
+    private Fp256() {
+    }
+
+    /**
+     * Check whether the given modulus is the prime handled by this class
+     */
+    public static boolean isModulus(BigInteger modulus) {
+        return P.equals(modulus);
+    }
+
+    // ============================ Conversion ============================
+
+    /**
+     * Store v mod p into r[ro..ro+3]
+     */
+    public static void fromBigInteger(BigInteger v, long[] r, int ro) {
+        if (v.signum() < 0 || v.bitLength() > 256 || v.compareTo(P) >= 0) {
+            v = v.mod(P);
+        }
+        for (int i = 0; i < LIMBS; i++) {
+            r[ro + i] = v.shiftRight(64 * i).longValue();
+        }
+    }
+
+    /**
+     * Read the element at a[ao..ao+3] as a non-negative BigInteger
+     */
+    public static BigInteger toBigInteger(long[] a, int ao) {
+        byte[] bytes = new byte[33]; // leading zero byte keeps the value positive
+        for (int i = 0; i < LIMBS; i++) {
+            long limb = a[ao + i];
+            for (int b = 0; b < 8; b++) {
+                bytes[32 - 8 * i - b] = (byte) (limb >>> (8 * b));
+            }
+        }
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * Store a small non-negative value
+     */
+    public static void fromLong(long v, long[] r, int ro) {
+        r[ro] = v;
+        r[ro + 1] = 0;
+        r[ro + 2] = 0;
+        r[ro + 3] = 0;
+    }
+
+    public static void copy(long[] a, int ao, long[] r, int ro) {
+        r[ro] = a[ao];
+        r[ro + 1] = a[ao + 1];
+        r[ro + 2] = a[ao + 2];
+        r[ro + 3] = a[ao + 3];
+    }
+
+    public static boolean isZero(long[] a, int ao) {
+        return (a[ao] | a[ao + 1] | a[ao + 2] | a[ao + 3]) == 0;
+    }
+
+    public static boolean equals(long[] a, int ao, long[] b, int bo) {
+        return a[ao] == b[bo] && a[ao + 1] == b[bo + 1] && a[ao + 2] == b[bo + 2] && a[ao + 3] == b[bo + 3];
+    }
+
+    // ============================ Arithmetic ============================
+    // All operations accept fully reduced inputs and produce fully reduced outputs; r may alias a or b
+
+    /**
+     * r = a + b mod p
+     */
+    public static void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao], a1 = a[ao + 1], a2 = a[ao + 2], a3 = a[ao + 3];
+        long s0 = a0 + b[bo];
+        long c = Long.compareUnsigned(s0, a0) < 0 ? 1 : 0;
+        long s1 = a1 + b[bo + 1] + c;
+        c = (Long.compareUnsigned(s1, a1) < 0 || (c == 1 && s1 == a1)) ? 1 : 0;
+        long s2 = a2 + b[bo + 2] + c;
+        c = (Long.compareUnsigned(s2, a2) < 0 || (c == 1 && s2 == a2)) ? 1 : 0;
+        long s3 = a3 + b[bo + 3] + c;
+        c = (Long.compareUnsigned(s3, a3) < 0 || (c == 1 && s3 == a3)) ? 1 : 0;
+        storeWithFinalFold(s0, s1, s2, s3, c, r, ro);
+    }
+
+    /**
+     * r = a - b mod p
+     */
+    public static void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao], a1 = a[ao + 1], a2 = a[ao + 2], a3 = a[ao + 3];
+        long b0 = b[bo], b1 = b[bo + 1], b2 = b[bo + 2], b3 = b[bo + 3];
+        long d0 = a0 - b0;
+        long w = Long.compareUnsigned(a0, b0) < 0 ? 1 : 0;
+        long d1 = a1 - b1 - w;
+        w = (Long.compareUnsigned(a1, b1) < 0 || (w == 1 && a1 == b1)) ? 1 : 0;
+        long d2 = a2 - b2 - w;
+        w = (Long.compareUnsigned(a2, b2) < 0 || (w == 1 && a2 == b2)) ? 1 : 0;
+        long d3 = a3 - b3 - w;
+        w = (Long.compareUnsigned(a3, b3) < 0 || (w == 1 && a3 == b3)) ? 1 : 0;
+        if (w != 0) {
+            // a - b + 2^256 is in the result limbs; adding p means subtracting C
+            long e0 = d0 - C;
+            long bw = Long.compareUnsigned(d0, C) < 0 ? 1 : 0;
+            long e1 = d1 - bw;
+            bw = (bw == 1 && d1 == 0) ? 1 : 0;
+            long e2 = d2 - bw;
+            bw = (bw == 1 && d2 == 0) ? 1 : 0;
+            d3 = d3 - bw;
+            d0 = e0;
+            d1 = e1;
+            d2 = e2;
+        }
+        r[ro] = d0;
+        r[ro + 1] = d1;
+        r[ro + 2] = d2;
+        r[ro + 3] = d3;
+    }
+
+    /**
+     * r = -a mod p
+     */
+    public static void negate(long[] a, int ao, long[] r, int ro) {
+        if (isZero(a, ao)) {
+            fromLong(0, r, ro);
+            return;
+        }
+        long a0 = a[ao], a1 = a[ao + 1], a2 = a[ao + 2], a3 = a[ao + 3];
+        long d0 = P0 - a0;
+        long w = Long.compareUnsigned(P0, a0) < 0 ? 1 : 0;
+        long d1 = P1 - a1 - w;
+        w = (Long.compareUnsigned(P1, a1) < 0 || (w == 1 && P1 == a1)) ? 1 : 0;
+        long d2 = P2 - a2 - w;
+        w = (Long.compareUnsigned(P2, a2) < 0 || (w == 1 && P2 == a2)) ? 1 : 0;
+        long d3 = P3 - a3 - w;
+        r[ro] = d0;
+        r[ro + 1] = d1;
+        r[ro + 2] = d2;
+        r[ro + 3] = d3;
+    }
+
+    /**
+     * r = a * b mod p
+     */
+    public static void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao], a1 = a[ao + 1], a2 = a[ao + 2], a3 = a[ao + 3];
+        long b0 = b[bo], b1 = b[bo + 1], b2 = b[bo + 2], b3 = b[bo + 3];
+
+        // Column-wise (Comba) 4x4 limb product into t0..t7
+        long c0 = 0, c1 = 0, c2 = 0, lo, hi;
+        lo = a0 * b0; hi = umulh(a0, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t0 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b1; hi = umulh(a0, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b0; hi = umulh(a1, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t1 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b2; hi = umulh(a0, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b1; hi = umulh(a1, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b0; hi = umulh(a2, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t2 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b3; hi = umulh(a0, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b2; hi = umulh(a1, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b1; hi = umulh(a2, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b0; hi = umulh(a3, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t3 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a1 * b3; hi = umulh(a1, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b2; hi = umulh(a2, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b1; hi = umulh(a3, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t4 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a2 * b3; hi = umulh(a2, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b2; hi = umulh(a3, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t5 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a3 * b3; hi = umulh(a3, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t6 = c0; c0 = c1; c1 = c2; c2 = 0;
+        long t7 = c0;
+
+        reduce(t0, t1, t2, t3, t4, t5, t6, t7, r, ro);
+    }
+
+    /**
+     * r = a^-1 mod p via Fermat's little theorem (a^(p-2)); the inverse of zero is reported as an error
+     */
+    public static void inverse(long[] a, int ao, long[] r, int ro) {
+        if (isZero(a, ao)) {
+            throw new ArithmeticException("Zero has no inverse modulo p");
+        }
+        long[] base = new long[LIMBS];
+        long[] acc = new long[LIMBS];
+        copy(a, ao, base, 0);
+        fromLong(1, acc, 0);
+        // p - 2 = 2^256 - 0x1000003D3, limbs (little-endian): P0 - 2, -1, -1, -1
+        long[] exponent = {P0 - 2, P1, P2, P3};
+        for (int limb = LIMBS - 1; limb >= 0; limb--) {
+            for (int bit = 63; bit >= 0; bit--) {
+                mul(acc, 0, acc, 0, acc, 0);
+                if (((exponent[limb] >>> bit) & 1) != 0) {
+                    mul(acc, 0, base, 0, acc, 0);
+                }
+            }
+        }
+        copy(acc, 0, r, ro);
+    }
+
+    // ============================ Wide accumulator ============================
+    // A sum of products kept unreduced: 8 limbs of 512-bit value plus one overflow limb counting 2^512 carries
+
+    /** Number of longs in a wide accumulator */
+    public static final int ACCUMULATOR_LIMBS = 9;
+
+    /** 2^512 mod p = C^2, used to fold the overflow limb */
+    private static final long[] TWO_POW_512 = new long[LIMBS];
+
+    static {
+        fromBigInteger(BigInteger.ONE.shiftLeft(512), TWO_POW_512, 0);
+    }
+
+    public static void clearAccumulator(long[] acc, int o) {
+        for (int i = 0; i < ACCUMULATOR_LIMBS; i++) {
+            acc[o + i] = 0;
+        }
+    }
+
+    /**
+     * acc += a (a fully reduced element)
+     */
+    public static void accumulate(long[] acc, int o, long[] a, int ao) {
+        long c = 0;
+        for (int i = 0; i < LIMBS; i++) {
+            c = addLimb(acc, o + i, a[ao + i], c);
+        }
+        for (int i = LIMBS; i < ACCUMULATOR_LIMBS && c != 0; i++) {
+            c = addLimb(acc, o + i, 0, c);
+        }
+    }
+
+    /**
+     * acc += a * b, leaving the 512-bit product unreduced
+     */
+    public static void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        long a0 = a[ao], a1 = a[ao + 1], a2 = a[ao + 2], a3 = a[ao + 3];
+        long b0 = b[bo], b1 = b[bo + 1], b2 = b[bo + 2], b3 = b[bo + 3];
+
+        // Column-wise (Comba) 4x4 limb product into t0..t7
+        long c0 = 0, c1 = 0, c2 = 0, lo, hi;
+        lo = a0 * b0; hi = umulh(a0, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t0 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b1; hi = umulh(a0, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b0; hi = umulh(a1, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t1 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b2; hi = umulh(a0, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b1; hi = umulh(a1, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b0; hi = umulh(a2, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t2 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a0 * b3; hi = umulh(a0, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a1 * b2; hi = umulh(a1, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b1; hi = umulh(a2, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b0; hi = umulh(a3, b0);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t3 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a1 * b3; hi = umulh(a1, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a2 * b2; hi = umulh(a2, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b1; hi = umulh(a3, b1);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t4 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a2 * b3; hi = umulh(a2, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        lo = a3 * b2; hi = umulh(a3, b2);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t5 = c0; c0 = c1; c1 = c2; c2 = 0;
+        lo = a3 * b3; hi = umulh(a3, b3);
+        c0 += lo; hi += Long.compareUnsigned(c0, lo) < 0 ? 1 : 0;
+        c1 += hi; c2 += Long.compareUnsigned(c1, hi) < 0 ? 1 : 0;
+        long t6 = c0; c0 = c1; c1 = c2; c2 = 0;
+        long t7 = c0;
+
+        long c = 0;
+        c = addLimb(acc, o, t0, c);
+        c = addLimb(acc, o + 1, t1, c);
+        c = addLimb(acc, o + 2, t2, c);
+        c = addLimb(acc, o + 3, t3, c);
+        c = addLimb(acc, o + 4, t4, c);
+        c = addLimb(acc, o + 5, t5, c);
+        c = addLimb(acc, o + 6, t6, c);
+        c = addLimb(acc, o + 7, t7, c);
+        acc[o + 8] += c;
+    }
+
+    /**
+     * r = acc mod p: one 512-bit reduction plus a fold of the overflow limb
+     */
+    public static void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        long overflow = acc[o + 8];
+        reduce(acc[o], acc[o + 1], acc[o + 2], acc[o + 3], acc[o + 4], acc[o + 5], acc[o + 6], acc[o + 7], r, ro);
+        if (overflow != 0) {
+            // overflow counts additions, far below p; overflow · 2^512 mod p has a 512-bit product below 2^320
+            long lo = overflow * TWO_POW_512[0];
+            long c0 = umulh(overflow, TWO_POW_512[0]);
+            long t1 = overflow * TWO_POW_512[1];
+            long c1 = umulh(overflow, TWO_POW_512[1]);
+            t1 += c0;
+            c1 += Long.compareUnsigned(t1, c0) < 0 ? 1 : 0;
+            long x0 = r[ro], x1 = r[ro + 1], x2 = r[ro + 2], x3 = r[ro + 3];
+            long s0 = x0 + lo;
+            long c = Long.compareUnsigned(s0, x0) < 0 ? 1 : 0;
+            long s1 = x1 + t1 + c;
+            c = (Long.compareUnsigned(s1, x1) < 0 || (c == 1 && s1 == x1)) ? 1 : 0;
+            long s2 = x2 + c1 + c;
+            c = (Long.compareUnsigned(s2, x2) < 0 || (c == 1 && s2 == x2)) ? 1 : 0;
+            long s3 = x3 + c;
+            c = (c == 1 && s3 == 0) ? 1 : 0;
+            reduce(s0, s1, s2, s3, c, 0, 0, 0, r, ro);
+        }
+    }
+
+    /**
+     * acc[i] += v + c, returning the carry out; branch-free, since accumulator carries are data-dependent
+     */
+    private static long addLimb(long[] acc, int i, long v, long c) {
+        long x = acc[i];
+        long s = x + v + c;
+        acc[i] = s;
+        return ((x & v) | ((x | v) & ~s)) >>> 63;
+    }
+
+    // ============================ Internals ============================
+
+    /**
+     * Unsigned high 64 bits of the 128-bit product x*y
+     */
+    static long umulh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    /**
+     * Reduce the 512-bit value t7..t0 modulo p: fold the high half as H*C, fold the remaining carry once more,
+     * then apply a final conditional subtraction
+     */
+    static void reduce(long t0, long t1, long t2, long t3, long t4, long t5, long t6, long t7, long[] r, int ro) {
+        long lo, hi, s, carry;
+
+        // r = L + H*C, with carry out of the top limb in 'carry' (at most about 2^34)
+        lo = t4 * C; hi = umulh(t4, C);
+        s = t0 + lo; hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        t0 = s; carry = hi;
+
+        lo = t5 * C; hi = umulh(t5, C);
+        lo += carry; hi += Long.compareUnsigned(lo, carry) < 0 ? 1 : 0;
+        s = t1 + lo; hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        t1 = s; carry = hi;
+
+        lo = t6 * C; hi = umulh(t6, C);
+        lo += carry; hi += Long.compareUnsigned(lo, carry) < 0 ? 1 : 0;
+        s = t2 + lo; hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        t2 = s; carry = hi;
+
+        lo = t7 * C; hi = umulh(t7, C);
+        lo += carry; hi += Long.compareUnsigned(lo, carry) < 0 ? 1 : 0;
+        s = t3 + lo; hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        t3 = s; carry = hi;
+
+        // Second fold: carry * C fits in 128 bits
+        lo = carry * C; hi = umulh(carry, C);
+        s = t0 + lo; long c = Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        t0 = s;
+        s = t1 + hi + c; c = (Long.compareUnsigned(s, t1) < 0 || (s == t1 && (hi | c) != 0)) ? 1 : 0;
+        t1 = s;
+        t2 += c; c = (c == 1 && t2 == 0) ? 1 : 0;
+        t3 += c; c = (c == 1 && t3 == 0) ? 1 : 0;
+
+        storeWithFinalFold(t0, t1, t2, t3, c, r, ro);
+    }
+
+    /**
+     * Store (c·2^256 + s) mod p, given that the value is below 2p
+     */
+    private static void storeWithFinalFold(long s0, long s1, long s2, long s3, long c, long[] r, int ro) {
+        // u = s + C; taking u (mod 2^256) subtracts p when either s or the carry already reached p
+        long u0 = s0 + C;
+        long cu = Long.compareUnsigned(u0, s0) < 0 ? 1 : 0;
+        long u1 = s1 + cu;
+        cu = (cu == 1 && u1 == 0) ? 1 : 0;
+        long u2 = s2 + cu;
+        cu = (cu == 1 && u2 == 0) ? 1 : 0;
+        long u3 = s3 + cu;
+        cu = (cu == 1 && u3 == 0) ? 1 : 0;
+        if ((c | cu) != 0) {
+            r[ro] = u0;
+            r[ro + 1] = u1;
+            r[ro + 2] = u2;
+            r[ro + 3] = u3;
+        } else {
+            r[ro] = s0;
+            r[ro + 1] = s1;
+            r[ro + 2] = s2;
+            r[ro + 3] = s3;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Field backend for the fixed 256-bit prime 2^256 - 2^32 - 977, delegating to the Fp256 limb kernels
+ */
+public final class Fp256Field implements Field {
+
+    public static final Fp256Field INSTANCE = new Fp256Field();
+
+    private Fp256Field() {
+    }
+
+    @Override
+    public String name() {
+        return "Fp256";
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return Fp256.P;
+    }
+
+    @Override
+    public int limbs() {
+        return Fp256.LIMBS;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        Fp256.fromBigInteger(v, r, ro);
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        return Fp256.toBigInteger(a, ao);
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        Fp256.fromLong(v, r, ro);
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        Fp256.add(a, ao, b, bo, r, ro);
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        Fp256.sub(a, ao, b, bo, r, ro);
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        Fp256.negate(a, ao, r, ro);
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        Fp256.mul(a, ao, b, bo, r, ro);
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        Fp256.inverse(a, ao, r, ro);
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        // One nextBytes call per candidate; p is within 2^-224 of 2^256, so rejection almost never triggers
+        byte[] bytes = new byte[8 * Fp256.LIMBS];
+        do {
+            secureRandom.nextBytes(bytes);
+            for (int i = 0; i < Fp256.LIMBS; i++) {
+                r[ro + i] = bytesToLong(bytes, 8 * i);
+            }
+        } while (r[ro + 1] == -1L && r[ro + 2] == -1L && r[ro + 3] == -1L
+                && Long.compareUnsigned(r[ro], -0x1000003D1L) >= 0);
+    }
+
+    @Override
+    public boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        if (words[wo + 1] == -1L && words[wo + 2] == -1L && words[wo + 3] == -1L
+                && Long.compareUnsigned(words[wo], -0x1000003D1L) >= 0) {
+            return false;
+        }
+        Fp256.copy(words, wo, r, ro);
+        return true;
+    }
+
+    @Override
+    public void copy(long[] a, int ao, long[] r, int ro) {
+        Fp256.copy(a, ao, r, ro);
+    }
+
+    @Override
+    public boolean isZero(long[] a, int ao) {
+        return Fp256.isZero(a, ao);
+    }
+
+    @Override
+    public boolean equals(long[] a, int ao, long[] b, int bo) {
+        return Fp256.equals(a, ao, b, bo);
+    }
+
+    @Override
+    public int accumulatorLimbs() {
+        return Fp256.ACCUMULATOR_LIMBS;
+    }
+
+    @Override
+    public void clearAccumulator(long[] acc, int o) {
+        Fp256.clearAccumulator(acc, o);
+    }
+
+    @Override
+    public void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        Fp256.accumulateProduct(acc, o, a, ao, b, bo);
+    }
+
+    @Override
+    public void accumulate(long[] acc, int o, long[] a, int ao) {
+        Fp256.accumulate(acc, o, a, ao);
+    }
+
+    @Override
+    public void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        Fp256.reduceAccumulator(acc, o, r, ro);
+    }
+
+    /**
+     * Big-endian 8-byte word at bytes[off]
+     */
+    static long bytesToLong(byte[] bytes, int off) {
+        long v = 0;
+        for (int i = 0; i < 8; i++) {
+            v = (v << 8) | (bytes[off + i] & 0xFF);
+        }
+        return v;
+    }
+}
@@ -0,0 +1,105 @@
+package code;
+
+/**
+ * Arithmetic in GF(2^8) = GF(2)[x] / (x^8 + x^4 + x^3 + x + 1) with table-driven bulk kernels
+ * Addition is XOR. Scalar products use log/exp tables; bulk products use a full 256×256 product table, so
+ * multiplying a whole byte array by a constant is one table lookup and one XOR per byte
+ */
+public final class Gf256 {
+    /** x^8 + x^4 + x^3 + x + 1 */
+    private static final int POLYNOMIAL = 0x11B;
+    /** 3 = x + 1 generates the multiplicative group */
+    private static final int GENERATOR = 3;
+
+    // EXP is doubled so EXP[LOG[a] + LOG[b]] needs no reduction modulo 255
+    private static final byte[] EXP = new byte[510];
+    private static final int[] LOG = new int[256];
+    // PRODUCTS[c][x] = c · x
+    private static final byte[][] PRODUCTS = new byte[256][256];
+
+    static {
+        int v = 1;
+        for (int i = 0; i < 255; i++) {
+            EXP[i] = (byte) v;
+            EXP[i + 255] = (byte) v;
+            LOG[v] = i;
+            // v · (x + 1) = (v << 1) ^ v, reduced by the polynomial
+            int shifted = v << 1;
+            if ((shifted & 0x100) != 0) {
+                shifted ^= POLYNOMIAL;
+            }
+            v = shifted ^ v;
+        }
+        for (int c = 1; c < 256; c++) {
+            for (int x = 1; x < 256; x++) {
+                PRODUCTS[c][x] = EXP[LOG[c] + LOG[x]];
+            }
+        }
+    }
+
+    private Gf256() {
+    }
+
+    public static int mul(int a, int b) {
+        if (a == 0 || b == 0) {
+            return 0;
+        }
+        return EXP[LOG[a] + LOG[b]] & 0xFF;
+    }
+
+    public static int inverse(int a) {
+        if (a == 0) {
+            throw new ArithmeticException("Zero has no inverse in GF(2^8)");
+        }
+        return EXP[255 - LOG[a]] & 0xFF;
+    }
+
+    /**
+     * a^e for e ≥ 0
+     */
+    public static int pow(int a, int e) {
+        if (e == 0) {
+            return 1;
+        }
+        if (a == 0) {
+            return 0;
+        }
+        return EXP[(int) ((long) LOG[a] * e % 255)] & 0xFF;
+    }
+
+    /**
+     * dst[dOff + i] ^= c · src[sOff + i] for i < length
+     */
+    public static void mulAdd(byte[] dst, int dOff, byte[] src, int sOff, int length, int c) {
+        if (c == 0) {
+            return;
+        }
+        if (c == 1) {
+            xor(dst, dOff, src, sOff, length);
+            return;
+        }
+        byte[] row = PRODUCTS[c];
+        for (int i = 0; i < length; i++) {
+            dst[dOff + i] ^= row[src[sOff + i] & 0xFF];
+        }
+    }
+
+    /**
+     * dst[dOff + i] = c · dst[dOff + i] for i < length
+     */
+    public static void scale(byte[] dst, int dOff, int length, int c) {
+        byte[] row = PRODUCTS[c];
+        for (int i = 0; i < length; i++) {
+            dst[dOff + i] = row[dst[dOff + i] & 0xFF];
+        }
+    }
+
+    /**
+     * dst[dOff + i] ^= src[sOff + i] for i < length
+     */
+    public static void xor(byte[] dst, int dOff, byte[] src, int sOff, int length) {
+        for (int i = 0; i < length; i++) {
+            dst[dOff + i] ^= src[sOff + i];
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package code;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Byte-wise dynamic-threshold sharing of bulk payloads over GF(2^8)
+ * Every payload byte is an independent secret shared with the same symmetric bivariate scheme as the prime-field
+ * app: f(x,y) = sum a_ij x^i y^j with a_ij = a_ji, master shares S_i(y) = f(ID_i, y), working shares
+ * T_i = f(ID_i, 0), threshold decrease by resharing, seeded refreshes and Lagrange recovery. A coefficient is a
+ * whole byte array, so each protocol step is a sequence of Gf256.mulAdd calls over the payload
+ * Participant IDs are 1..n, so at most 255 participants. Recovery combines the shares directly (trusted
+ * combiner); there is no pairing-key masking of published values in this mode
+ */
+public final class Gf256Sharing {
+    public static final int MAX_PARTICIPANTS = 255;
+
+    private final int n;
+    private final boolean verbose;
+    private int currentThreshold;
+    private int currentMainThreshold;
+    private int length; // payload bytes
+
+    // Packed upper triangle a_ij (i ≤ j) of the main polynomial, one payload-length block per coefficient
+    private byte[] polynomial;
+    private byte[][] mainShares;    // S_i: currentMainThreshold blocks, coefficient j at j·length
+    private byte[][] workingShares; // T_i: one block
+    private final SeedSchedule seedSchedule = new SeedSchedule(SeedSchedule.DEFAULT_EPOCH_KEY);
+
+    public Gf256Sharing(int n, int initialThreshold, boolean verbose) {
+        if (n < 1 || n > MAX_PARTICIPANTS) {
+            throw new IllegalArgumentException("GF(2^8) sharing supports 1.." + MAX_PARTICIPANTS + " participants, got: " + n);
+        }
+        if (initialThreshold < 1 || initialThreshold > n) {
+            throw new IllegalArgumentException("Threshold must lie in [1, " + n + "]");
+        }
+        this.n = n;
+        this.currentThreshold = initialThreshold;
+        this.currentMainThreshold = initialThreshold;
+        this.verbose = verbose;
+    }
+
+    /**
+     * Deal a payload: Section 4.2 / 4.3 byte-wise
+     */
+    public void systemInitialization(byte[] secret) {
+        this.length = secret.length;
+        int t = currentMainThreshold;
+        this.polynomial = new byte[t * (t + 1) / 2 * length];
+        BCCryptoUtils.nextBytes(polynomial, 0, polynomial.length);
+        System.arraycopy(secret, 0, polynomial, 0, length);
+        computeShares();
+
+        if (verbose) {
+            System.out.println("✓ GF(2^8) dealing complete – " + length + " bytes, participants: " + n + ", threshold: " + t);
+        }
+    }
+
+    /**
+     * Threshold decrease by resharing: quorum member i deals a random univariate g_i with g_i(0) = λ_i·T_i
+     * and every participant's new working share is sum_i g_i(ID_j)
+     */
+    public void thresholdDecrease(int newThreshold) {
+        if (newThreshold >= currentThreshold) {
+            throw new IllegalArgumentException("New threshold must be smaller than current threshold");
+        }
+        int quorum = currentThreshold;
+        int[] lagrange = lagrangeAtZero(firstParticipants(quorum));
+
+        byte[][] newWorkingShares = new byte[n][length];
+        byte[] reshare = new byte[newThreshold * length];
+        for (int i = 0; i < quorum; i++) {
+            // g_i: constant term λ_i·T_i, random higher coefficients
+            BCCryptoUtils.nextBytes(reshare, length, reshare.length - length);
+            Arrays.fill(reshare, 0, length, (byte) 0);
+            Gf256.mulAdd(reshare, 0, workingShares[i], 0, length, lagrange[i]);
+            for (int j = 0; j < n; j++) {
+                evaluateInto(reshare, newThreshold, j + 1, newWorkingShares[j]);
+            }
+        }
+        this.workingShares = newWorkingShares;
+        this.currentThreshold = newThreshold;
+
+        if (verbose) {
+            System.out.println("✓ GF(2^8) threshold decrease complete – new threshold: " + newThreshold);
+        }
+    }
+
+    /**
+     * Extend the main polynomial to newThreshold with fresh high-order coefficients, keeping a_ij for i, j below
+     * the old threshold, and re-derive all shares from it
+     */
+    public void thresholdPreexpansion(int newThreshold) {
+        int t = currentMainThreshold;
+        if (newThreshold <= t) {
+            throw new IllegalArgumentException("New threshold must be larger than current threshold");
+        }
+        if (newThreshold > n) {
+            throw new IllegalArgumentException("Threshold cannot exceed the number of participants");
+        }
+        byte[] extended = new byte[newThreshold * (newThreshold + 1) / 2 * length];
+        BCCryptoUtils.nextBytes(extended, 0, extended.length);
+        for (int i = 0; i < t; i++) {
+            for (int j = i; j < t; j++) {
+                System.arraycopy(polynomial, offset(i, j, t), extended, offset(i, j, newThreshold), length);
+            }
+        }
+        this.polynomial = extended;
+        this.currentMainThreshold = newThreshold;
+        this.currentThreshold = newThreshold;
+        computeShares();
+
+        if (verbose) {
+            System.out.println("✓ GF(2^8) threshold pre-expansion complete – new threshold: " + newThreshold);
+        }
+    }
+
+    /**
+     * Working-share refresh: T_i += d(ID_i), where d is the zero-constant column 0 of the round's update polynomial
+     */
+    public void workingShareUpdate(String contextInfo, int updateRound) {
+        int t = currentThreshold;
+        byte[] column = new byte[t * length];
+        roundRandom(contextInfo, updateRound, SeedSchedule.WORKING_SHARE_UPDATE).nextBytes(column);
+        Arrays.fill(column, 0, length, (byte) 0);
+        for (int i = 0; i < n; i++) {
+            evaluateInto(column, t, i + 1, workingShares[i]);
+        }
+    }
+
+    /**
+     * Master-share refresh: S_i(y) += d(ID_i, y) for the round's zero-constant symmetric update polynomial d,
+     * which is also folded into the held main polynomial
+     */
+    public void mainShareUpdate(String contextInfo, int updateRound) {
+        int t = currentMainThreshold;
+        byte[] update = new byte[t * (t + 1) / 2 * length];
+        roundRandom(contextInfo, updateRound, SeedSchedule.MAIN_SHARE_UPDATE).nextBytes(update);
+        Arrays.fill(update, 0, length, (byte) 0);
+        Gf256.xor(polynomial, 0, update, 0, update.length);
+        for (int i = 0; i < n; i++) {
+            addEvaluationAtX(update, t, i + 1, mainShares[i]);
+        }
+    }
+
+    /**
+     * Recover the payload from the working shares of participantIndices
+     */
+    public byte[] secretRecoveryFromWorkingShares(List<Integer> participantIndices) {
+        validateRecoveryParticipants(participantIndices, currentThreshold);
+        int[] lagrange = lagrangeAtZero(participantIndices);
+        byte[] secret = new byte[length];
+        for (int m = 0; m < lagrange.length; m++) {
+            Gf256.mulAdd(secret, 0, workingShares[participantIndices.get(m)], 0, length, lagrange[m]);
+        }
+        return secret;
+    }
+
+    /**
+     * Recover the payload from the constant terms S_i(0) of the master shares of participantIndices
+     */
+    public byte[] secretRecoveryFromMainShares(List<Integer> participantIndices) {
+        validateRecoveryParticipants(participantIndices, currentMainThreshold);
+        int[] lagrange = lagrangeAtZero(participantIndices);
+        byte[] secret = new byte[length];
+        for (int m = 0; m < lagrange.length; m++) {
+            Gf256.mulAdd(secret, 0, mainShares[participantIndices.get(m)], 0, length, lagrange[m]);
+        }
+        return secret;
+    }
+
+    public int currentThreshold() {
+        return currentThreshold;
+    }
+
+    public int currentMainThreshold() {
+        return currentMainThreshold;
+    }
+
+    // ============================ Helpers ============================
+
+    /**
+     * S_i(y) = f(ID_i, y) and T_i = S_i(0) for every participant from the main polynomial
+     */
+    private void computeShares() {
+        int t = currentMainThreshold;
+        this.mainShares = new byte[n][t * length];
+        this.workingShares = new byte[n][length];
+        for (int i = 0; i < n; i++) {
+            addEvaluationAtX(polynomial, t, i + 1, mainShares[i]);
+            System.arraycopy(mainShares[i], 0, workingShares[i], 0, length);
+        }
+    }
+
+    /**
+     * share += p(x, y) at x = id for a packed symmetric polynomial of threshold t: a_ij feeds coefficient j with
+     * x^i and coefficient i with x^j
+     */
+    private void addEvaluationAtX(byte[] packed, int t, int id, byte[] share) {
+        int[] powers = powers(id, t);
+        int c = 0;
+        for (int i = 0; i < t; i++) {
+            for (int j = i; j < t; j++, c += length) {
+                Gf256.mulAdd(share, j * length, packed, c, length, powers[i]);
+                if (i != j) {
+                    Gf256.mulAdd(share, i * length, packed, c, length, powers[j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * r += g(id) for a univariate g with t coefficient blocks
+     */
+    private void evaluateInto(byte[] coefficients, int t, int id, byte[] r) {
+        int[] powers = powers(id, t);
+        for (int k = 0; k < t; k++) {
+            Gf256.mulAdd(r, 0, coefficients, k * length, length, powers[k]);
+        }
+    }
+
+    private static int[] powers(int x, int count) {
+        int[] powers = new int[count];
+        powers[0] = 1;
+        for (int k = 1; k < count; k++) {
+            powers[k] = Gf256.mul(powers[k - 1], x);
+        }
+        return powers;
+    }
+
+    /**
+     * Byte offset of a_ij in a packed triangle of threshold t
+     */
+    private int offset(int i, int j, int t) {
+        if (i > j) {
+            int tmp = i;
+            i = j;
+            j = tmp;
+        }
+        return (i * t - i * (i - 1) / 2 + (j - i)) * length;
+    }
+
+    /**
+     * L_m(0) = prod_{k≠m} x_k / (x_k - x_m) for IDs x = index + 1; subtraction is XOR
+     */
+    private static int[] lagrangeAtZero(List<Integer> participantIndices) {
+        int count = participantIndices.size();
+        int[] coefficients = new int[count];
+        for (int m = 0; m < count; m++) {
+            int xm = participantIndices.get(m) + 1;
+            int numerator = 1, denominator = 1;
+            for (int k = 0; k < count; k++) {
+                if (k != m) {
+                    int xk = participantIndices.get(k) + 1;
+                    numerator = Gf256.mul(numerator, xk);
+                    denominator = Gf256.mul(denominator, xk ^ xm);
+                }
+            }
+            coefficients[m] = Gf256.mul(numerator, Gf256.inverse(denominator));
+        }
+        return coefficients;
+    }
+
+    private static List<Integer> firstParticipants(int count) {
+        Integer[] indices = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = i;
+        }
+        return Arrays.asList(indices);
+    }
+
+    private void validateRecoveryParticipants(List<Integer> participantIndices, int requiredThreshold) {
+        if (participantIndices.size() < requiredThreshold) {
+            throw new IllegalArgumentException(
+                    "Insufficient participants: need at least " + requiredThreshold + ", got: " + participantIndices.size());
+        }
+    }
+
+    /**
+     * Deterministic generator for a public refresh round, shared by all participants
+     */
+    private SecureRandom roundRandom(String contextInfo, int updateRound, byte purpose) {
+        return BCCryptoUtils.createSecureRandom(seedSchedule.seed(purpose, contextInfo, updateRound));
+    }
+}
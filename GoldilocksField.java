@@ -0,0 +1,222 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Field backend for the 64-bit Goldilocks prime p = 2^64 - 2^32 + 1 on a single primitive long
+ * Elements are canonical unsigned values in [0, p); products are reduced with 2^64 ≡ 2^32 - 1 and 2^96 ≡ -1 (mod p)
+ * Intended for lower-security, high-volume vaults where no per-operation allocation is acceptable
+ */
+public final class GoldilocksField implements Field {
+
+    public static final GoldilocksField INSTANCE = new GoldilocksField();
+
+    /** p as an unsigned long */
+    static final long P = 0xFFFFFFFF00000001L;
+
+    /** 2^64 - p = 2^32 - 1 */
+    private static final long EPSILON = 0xFFFFFFFFL;
+
+    /** 2^128 mod p = EPSILON^2, folds the accumulator overflow word */
+    private static final long TWO_POW_128 = reduce128(EPSILON * EPSILON, 0);
+
+    private static final BigInteger MODULUS = new BigInteger(Long.toUnsignedString(P));
+
+    private GoldilocksField() {
+    }
+
+    @Override
+    public String name() {
+        return "Goldilocks64";
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return MODULUS;
+    }
+
+    @Override
+    public int limbs() {
+        return 1;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        r[ro] = v.mod(MODULUS).longValue();
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        long v = a[ao];
+        return v >= 0 ? BigInteger.valueOf(v) : BigInteger.valueOf(v & Long.MAX_VALUE).setBit(63);
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        r[ro] = v;
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        r[ro] = add(a[ao], b[bo]);
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        r[ro] = sub(a[ao], b[bo]);
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        long v = a[ao];
+        r[ro] = v == 0 ? 0 : P - v;
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        r[ro] = mul(a[ao], b[bo]);
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        long v = a[ao];
+        if (v == 0) {
+            throw new ArithmeticException("Zero has no inverse modulo p");
+        }
+        // Fermat: v^(p-2)
+        long e = P - 2;
+        long result = 1;
+        long base = v;
+        while (e != 0) {
+            if ((e & 1) != 0) {
+                result = mul(result, base);
+            }
+            base = mul(base, base);
+            e >>>= 1;
+        }
+        r[ro] = result;
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        byte[] bytes = new byte[8];
+        long v;
+        do {
+            secureRandom.nextBytes(bytes);
+            v = Fp256Field.bytesToLong(bytes, 0);
+        } while (Long.compareUnsigned(v, P) >= 0);
+        r[ro] = v;
+    }
+
+    @Override
+    public boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        long v = words[wo];
+        if (Long.compareUnsigned(v, P) >= 0) {
+            return false;
+        }
+        r[ro] = v;
+        return true;
+    }
+
+    @Override
+    public void copy(long[] a, int ao, long[] r, int ro) {
+        r[ro] = a[ao];
+    }
+
+    @Override
+    public boolean isZero(long[] a, int ao) {
+        return a[ao] == 0;
+    }
+
+    @Override
+    public boolean equals(long[] a, int ao, long[] b, int bo) {
+        return a[ao] == b[bo];
+    }
+
+    // Accumulator layout: lo, hi, overflow count of 2^128 carries
+
+    @Override
+    public int accumulatorLimbs() {
+        return 3;
+    }
+
+    @Override
+    public void clearAccumulator(long[] acc, int o) {
+        acc[o] = 0;
+        acc[o + 1] = 0;
+        acc[o + 2] = 0;
+    }
+
+    @Override
+    public void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        long x = a[ao], y = b[bo];
+        long lo = x * y;
+        long hi = Fp256.umulh(x, y);
+        long s = acc[o] + lo;
+        hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        acc[o] = s;
+        // hi < 2^64 - 1 after a product high word, so the carry cannot wrap it
+        long h = acc[o + 1] + hi;
+        acc[o + 2] += Long.compareUnsigned(h, hi) < 0 ? 1 : 0;
+        acc[o + 1] = h;
+    }
+
+    @Override
+    public void accumulate(long[] acc, int o, long[] a, int ao) {
+        long v = a[ao];
+        long s = acc[o] + v;
+        acc[o] = s;
+        if (Long.compareUnsigned(s, v) < 0 && ++acc[o + 1] == 0) {
+            acc[o + 2]++;
+        }
+    }
+
+    @Override
+    public void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        long v = reduce128(acc[o], acc[o + 1]);
+        long overflow = acc[o + 2];
+        r[ro] = overflow == 0 ? v : add(v, mul(overflow, TWO_POW_128));
+    }
+
+    // ============================ Scalar kernels ============================
+
+    static long add(long a, long b) {
+        long s = a + b;
+        if (Long.compareUnsigned(s, a) < 0) {
+            // wrapped past 2^64: add back 2^64 mod p; the result is already below p
+            return s + EPSILON;
+        }
+        return Long.compareUnsigned(s, P) >= 0 ? s - P : s;
+    }
+
+    static long sub(long a, long b) {
+        long d = a - b;
+        return Long.compareUnsigned(a, b) < 0 ? d - EPSILON : d;
+    }
+
+    static long mul(long a, long b) {
+        return reduce128(a * b, Fp256.umulh(a, b));
+    }
+
+    /**
+     * Reduce hi·2^64 + lo modulo p
+     */
+    static long reduce128(long lo, long hi) {
+        long hiHi = hi >>> 32;
+        long hiLo = hi & EPSILON;
+
+        // lo - hiHi (2^96 ≡ -1)
+        long t0 = lo - hiHi;
+        if (Long.compareUnsigned(lo, hiHi) < 0) {
+            t0 -= EPSILON;
+        }
+        // hiLo · (2^32 - 1) (2^64 ≡ 2^32 - 1), fits in 64 bits
+        long t1 = hiLo * EPSILON;
+        long s = t0 + t1;
+        if (Long.compareUnsigned(s, t1) < 0) {
+            s += EPSILON;
+        }
+        return Long.compareUnsigned(s, P) >= 0 ? s - P : s;
+    }
+}
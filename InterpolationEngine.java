@@ -0,0 +1,79 @@
+package code;
+
+/**
+ * Fast interpolation over one quorum: the coefficients of the polynomial through (x_m, y_m) for a fixed point set
+ * With M(x) = prod (x - x_m) from a subproduct tree over the quorum, the interpolant is
+ * sum_m y_m / M'(x_m) · M(x) / (x - x_m). M' is evaluated at every point through the tree and the k values are
+ * inverted in one batch when the engine is built, so each interpolated vector afterwards costs O(M(k) log k)
+ * with no inversion; reconstructing many columns over the same quorum reuses all of that
+ */
+public final class InterpolationEngine {
+    private final Field field;
+    private final int limbs;
+    private final int count;
+    private final SubproductTree tree;
+    // 1 / M'(x_m) for every quorum point
+    private final long[] inverseDerivatives;
+
+    /**
+     * Prepare interpolation through the points points[indices[0]·limbs], ..., points[indices[count-1]·limbs]
+     */
+    public InterpolationEngine(Field field, long[] points, int[] indices, int count) {
+        this.field = field;
+        this.limbs = field.limbs();
+        this.count = count;
+
+        long[] quorum = field.newElements(count);
+        for (int m = 0; m < count; m++) {
+            field.copy(points, indices[m] * limbs, quorum, m * limbs);
+        }
+        this.tree = SubproductTree.over(field, quorum, count);
+
+        // M'(x) = sum_k k · m_k x^(k-1)
+        long[] vanishing = tree.vanishingPolynomial();
+        long[] derivative = field.newElements(count);
+        long[] k = field.newElements(1);
+        for (int i = 1; i <= count; i++) {
+            field.fromLong(i, k, 0);
+            field.mul(vanishing, i * limbs, k, 0, derivative, (i - 1) * limbs);
+        }
+        this.inverseDerivatives = field.newElements(count);
+        tree.evaluate(derivative, 0, limbs, count, inverseDerivatives, 0);
+        batchInverse(inverseDerivatives, count);
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * r[ro + k·limbs], k < count = coefficients of the polynomial taking values[vo + m·stride] at quorum point m
+     */
+    public void interpolate(long[] values, int vo, int stride, long[] r, int ro) {
+        long[] weights = field.newElements(count);
+        for (int m = 0; m < count; m++) {
+            field.mul(values, vo + m * stride, inverseDerivatives, m * limbs, weights, m * limbs);
+        }
+        long[] coefficients = tree.linearCombination(weights, 0);
+        System.arraycopy(coefficients, 0, r, ro, count * limbs);
+    }
+
+    /**
+     * Invert count non-zero elements in place with a single field inversion (Montgomery's trick)
+     */
+    private void batchInverse(long[] a, int count) {
+        long[] running = field.newElements(count);
+        long[] inv = field.newElements(2);
+        field.copy(a, 0, running, 0);
+        for (int m = 1; m < count; m++) {
+            field.mul(running, (m - 1) * limbs, a, m * limbs, running, m * limbs);
+        }
+        field.inverse(running, (count - 1) * limbs, inv, 0); // 1 / (a_0 · ... · a_{k-1})
+        for (int m = count - 1; m > 0; m--) {
+            field.mul(inv, 0, running, (m - 1) * limbs, inv, limbs); // 1 / a_m
+            field.mul(inv, 0, a, m * limbs, inv, 0);                 // 1 / (a_0 · ... · a_{m-1})
+            field.copy(inv, limbs, a, m * limbs);
+        }
+        field.copy(inv, 0, a, 0);
+    }
+}
@@ -0,0 +1,204 @@
+package code;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of quorum Lagrange coefficient vectors L_i(0)
+ * Quorums are keyed by a participant bitmask held in 64-bit words, and vectors are stored in ascending
+ * participant-index order. Lagrange coefficients depend only on participant IDs, so one cache is
+ * shared by every app instance over the same field backend and participant-ID set and stays valid across share
+ * updates; backends are kept apart even when they share a modulus, so each cache's statistics belong to one backend
+ */
+public final class LagrangeCache {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Shared caches, one per (field backend, modulus, participant-ID set)
+    private static final Map<IdSetKey, LagrangeCache> SHARED = new ConcurrentHashMap<>();
+
+    private final Field field;
+    private final int limbs;
+    private final int n;
+    private final int capacity;
+    private final LinkedHashMap<QuorumMask, long[]> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private LagrangeCache(Field field, int n, int capacity) {
+        this.field = field;
+        this.limbs = field.limbs();
+        this.n = n;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<QuorumMask, long[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QuorumMask, long[]> eldest) {
+                if (size() > LagrangeCache.this.capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the cache shared by all instances over this field and these n participant IDs
+     */
+    public static LagrangeCache shared(Field field, long[] idElements, int n) {
+        IdSetKey key = new IdSetKey(field, Arrays.copyOf(idElements, n * field.limbs()));
+        return SHARED.computeIfAbsent(key, k -> new LagrangeCache(field, n, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * All shared caches created so far
+     */
+    public static Collection<LagrangeCache> sharedCaches() {
+        return SHARED.values();
+    }
+
+    /**
+     * r[ro + m·limbs] = L_m(0) for the quorum indices[0..count-1], computing with engine on a miss
+     */
+    public void coefficientsAtZero(LagrangeEngine engine, long[] idElements, int[] indices, int count, long[] r, int ro) {
+        QuorumMask key = QuorumMask.of(n, indices, count);
+        if (key == null) {
+            // repeated indices: not a quorum, let the engine report it
+            engine.coefficientsAtZero(idElements, indices, count, r, ro);
+            return;
+        }
+
+        long[] sorted;
+        synchronized (entries) {
+            sorted = entries.get(key);
+        }
+        if (sorted != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            int[] ascending = Arrays.copyOf(indices, count);
+            Arrays.sort(ascending);
+            sorted = field.newElements(count);
+            engine.coefficientsAtZero(idElements, ascending, count, sorted, 0);
+            synchronized (entries) {
+                entries.put(key, sorted);
+            }
+        }
+
+        // Map ascending-order coefficients back to the caller's order: rank = members below the index
+        for (int m = 0; m < count; m++) {
+            field.copy(sorted, key.rank(indices[m]) * limbs, r, ro + m * limbs);
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        long h = hits(), m = misses();
+        return String.format("Lagrange cache [%s, n=%d]: %d hits, %d misses (hit rate %.2f%%), %d evictions, %d/%d entries",
+                field.name(), n, h, m, (h + m) == 0 ? 0.0 : h * 100.0 / (h + m), evictions(), size(), capacity);
+    }
+
+    /**
+     * Participant bitmask of a quorum: bit i of words[i / 64] is set when participant i is a member
+     * below[w] counts the members in words before w, so a rank is one popcount however large n is
+     */
+    private static final class QuorumMask {
+        private final long[] words;
+        private final int[] below;
+        private final int hash;
+
+        private QuorumMask(long[] words) {
+            this.words = words;
+            this.below = new int[words.length];
+            for (int w = 1; w < words.length; w++) {
+                below[w] = below[w - 1] + Long.bitCount(words[w - 1]);
+            }
+            this.hash = Arrays.hashCode(words);
+        }
+
+        /**
+         * Mask of indices[0..count-1] over n participants, or null if an index repeats
+         */
+        static QuorumMask of(int n, int[] indices, int count) {
+            long[] words = new long[(n + 63) >>> 6];
+            for (int m = 0; m < count; m++) {
+                int index = indices[m];
+                long bit = 1L << index;
+                if ((words[index >>> 6] & bit) != 0) {
+                    return null;
+                }
+                words[index >>> 6] |= bit;
+            }
+            return new QuorumMask(words);
+        }
+
+        /**
+         * Number of members below index, i.e. its position in ascending order
+         */
+        int rank(int index) {
+            int word = index >>> 6;
+            return below[word] + Long.bitCount(words[word] & ((1L << index) - 1));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof QuorumMask && Arrays.equals(words, ((QuorumMask) o).words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Identity of a participant-ID set over a given field backend and prime; also keys other per-ID-set
+     * precomputations. The backend name is part of the key because element representations differ between backends
+     */
+    static final class IdSetKey {
+        private final String fieldName;
+        private final BigInteger modulus;
+        private final long[] ids;
+
+        IdSetKey(Field field, long[] ids) {
+            this.fieldName = field.name();
+            this.modulus = field.modulus();
+            this.ids = ids;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof IdSetKey)) {
+                return false;
+            }
+            IdSetKey other = (IdSetKey) o;
+            return fieldName.equals(other.fieldName) && modulus.equals(other.modulus) && Arrays.equals(ids, other.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * fieldName.hashCode() + modulus.hashCode()) + Arrays.hashCode(ids);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package code;
+
+/**
+ * Batch Lagrange-coefficient engine: computes L_1(0) .. L_k(0) for a whole quorum at once
+ * General quorums use prefix/suffix products for the numerators and Montgomery batch inversion of the
+ * denominators, so the whole batch costs O(k^2) multiplications and a single field inversion
+ * Quorums whose IDs are exactly 1..k (the IDs produced by generateParticipantIDs, taken in order) use
+ * L_i(0) = (-1)^(i+1) · C(k, i) from cached factorial and inverse-factorial tables, with no inversion at all
+ */
+public final class LagrangeEngine {
+    private final Field field;
+    private final int limbs;
+
+    // factorials[i] = i!, inverseFactorials[i] = 1/i!, small[i] = i, for i < tableSize
+    private long[] factorials;
+    private long[] inverseFactorials;
+    private long[] small;
+    private int tableSize;
+
+    // Per-batch scratch: prefix products, suffix products, denominators, running values
+    private long[] prefix;
+    private long[] suffix;
+    private long[] denominators;
+    private final long[] work;
+
+    public LagrangeEngine(Field field) {
+        this.field = field;
+        this.limbs = field.limbs();
+        this.work = field.newElements(3);
+        this.tableSize = 0;
+        this.prefix = new long[0];
+        this.suffix = new long[0];
+        this.denominators = new long[0];
+        ensureFactorials(2);
+    }
+
+    /**
+     * r[ro + m·limbs] = L_m(0) for the quorum points[indices[0]·limbs], ..., points[indices[count-1]·limbs]
+     */
+    public void coefficientsAtZero(long[] points, int[] indices, int count, long[] r, int ro) {
+        if (count == 1) {
+            field.fromLong(1, r, ro);
+            return;
+        }
+        if (isConsecutiveFromOne(points, indices, count)) {
+            binomialCoefficients(count, r, ro);
+        } else {
+            generalCoefficients(points, indices, count, r, ro);
+        }
+    }
+
+    /**
+     * Whether the quorum points are exactly 1, 2, ..., count in order
+     */
+    private boolean isConsecutiveFromOne(long[] points, int[] indices, int count) {
+        ensureFactorials(count + 1);
+        for (int m = 0; m < count; m++) {
+            if (!field.equals(points, indices[m] * limbs, small, (m + 1) * limbs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * L_i(0) = (-1)^(i+1) · k! / (i! · (k-i)!) for points 1..k
+     */
+    private void binomialCoefficients(int k, long[] r, int ro) {
+        for (int i = 1; i <= k; i++) {
+            int o = ro + (i - 1) * limbs;
+            field.mul(factorials, k * limbs, inverseFactorials, i * limbs, r, o);
+            field.mul(r, o, inverseFactorials, (k - i) * limbs, r, o);
+            if ((i & 1) == 0) {
+                field.negate(r, o, r, o);
+            }
+        }
+    }
+
+    /**
+     * L_i(0) = prod_{j≠i} (-x_j) / prod_{j≠i} (x_i - x_j), with one batch inversion for all denominators
+     */
+    private void generalCoefficients(long[] points, int[] indices, int count, long[] r, int ro) {
+        ensureScratch(count);
+        int neg = 0, acc = limbs, diff = 2 * limbs;
+
+        // Prefix/suffix products of -x_j: prefix[m] = prod_{j<m}, suffix[m] = prod_{j>m}
+        field.fromLong(1, prefix, 0);
+        for (int m = 1; m < count; m++) {
+            field.negate(points, indices[m - 1] * limbs, work, neg);
+            field.mul(prefix, (m - 1) * limbs, work, neg, prefix, m * limbs);
+        }
+        field.fromLong(1, suffix, (count - 1) * limbs);
+        for (int m = count - 2; m >= 0; m--) {
+            field.negate(points, indices[m + 1] * limbs, work, neg);
+            field.mul(suffix, (m + 1) * limbs, work, neg, suffix, m * limbs);
+        }
+
+        // Denominators D_m = prod_{j≠m} (x_m - x_j)
+        for (int m = 0; m < count; m++) {
+            int xm = indices[m] * limbs;
+            field.fromLong(1, denominators, m * limbs);
+            for (int j = 0; j < count; j++) {
+                if (j != m) {
+                    field.sub(points, xm, points, indices[j] * limbs, work, diff);
+                    field.mul(denominators, m * limbs, work, diff, denominators, m * limbs);
+                }
+            }
+        }
+
+        // Montgomery batch inversion, using r for the running products r[m] = D_0 · ... · D_m
+        field.copy(denominators, 0, r, ro);
+        for (int m = 1; m < count; m++) {
+            field.mul(r, ro + (m - 1) * limbs, denominators, m * limbs, r, ro + m * limbs);
+        }
+        field.inverse(r, ro + (count - 1) * limbs, work, acc); // acc = 1 / (D_0 · ... · D_{k-1})
+        for (int m = count - 1; m >= 0; m--) {
+            int o = ro + m * limbs;
+            if (m > 0) {
+                field.mul(work, acc, r, o - limbs, work, diff);           // 1 / D_m
+                field.mul(work, acc, denominators, m * limbs, work, acc); // 1 / (D_0 · ... · D_{m-1})
+            } else {
+                field.copy(work, acc, work, diff);
+            }
+            // L_m = prefix[m] · suffix[m] / D_m
+            field.mul(prefix, m * limbs, suffix, m * limbs, r, o);
+            field.mul(r, o, work, diff, r, o);
+        }
+    }
+
+    /**
+     * Grow the factorial tables to cover 0..size-1, spending one inversion per growth
+     */
+    private void ensureFactorials(int size) {
+        if (size <= tableSize) {
+            return;
+        }
+        int newSize = Math.max(size, 2 * tableSize);
+        long[] f = field.newElements(newSize);
+        long[] inv = field.newElements(newSize);
+        long[] s = field.newElements(newSize);
+        for (int i = 0; i < newSize; i++) {
+            field.fromLong(i, s, i * limbs);
+        }
+        field.fromLong(1, f, 0);
+        for (int i = 1; i < newSize; i++) {
+            field.mul(f, (i - 1) * limbs, s, i * limbs, f, i * limbs);
+        }
+        field.inverse(f, (newSize - 1) * limbs, inv, (newSize - 1) * limbs);
+        for (int i = newSize - 1; i > 0; i--) {
+            field.mul(inv, i * limbs, s, i * limbs, inv, (i - 1) * limbs);
+        }
+        this.factorials = f;
+        this.inverseFactorials = inv;
+        this.small = s;
+        this.tableSize = newSize;
+    }
+
+    private void ensureScratch(int count) {
+        if (prefix.length < count * limbs) {
+            prefix = field.newElements(count);
+            suffix = field.newElements(count);
+            denominators = field.newElements(count);
+        }
+    }
+}
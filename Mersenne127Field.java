@@ -0,0 +1,283 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Field backend for the Mersenne prime p = 2^127 - 1 on two primitive longs (low limb, then a 63-bit high limb)
+ * Reduction folds bits above 127 back onto the low bits since 2^127 ≡ 1 (mod p)
+ */
+public final class Mersenne127Field implements Field {
+
+    public static final Mersenne127Field INSTANCE = new Mersenne127Field();
+
+    private static final long HI_MASK = Long.MAX_VALUE;
+
+    private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+    private Mersenne127Field() {
+    }
+
+    @Override
+    public String name() {
+        return "Mersenne127";
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return MODULUS;
+    }
+
+    @Override
+    public int limbs() {
+        return 2;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        BigInteger m = v.mod(MODULUS);
+        r[ro] = m.longValue();
+        r[ro + 1] = m.shiftRight(64).longValue();
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        BigInteger lo = a[ao] >= 0 ? BigInteger.valueOf(a[ao]) : BigInteger.valueOf(a[ao] & Long.MAX_VALUE).setBit(63);
+        return BigInteger.valueOf(a[ao + 1]).shiftLeft(64).or(lo);
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        r[ro] = v;
+        r[ro + 1] = 0;
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao];
+        long lo = a0 + b[bo];
+        long c = Long.compareUnsigned(lo, a0) < 0 ? 1 : 0;
+        long hi = a[ao + 1] + b[bo + 1] + c; // below 2^64 since both high limbs are below 2^63
+        store(lo, hi, r, ro);
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao], b0 = b[bo];
+        long lo = a0 - b0;
+        long w = Long.compareUnsigned(a0, b0) < 0 ? 1 : 0;
+        long hi = a[ao + 1] - b[bo + 1] - w;
+        if (hi < 0) {
+            // a < b: add p = 2^127 - 1, i.e. drop the borrow above bit 127 and subtract one
+            hi &= HI_MASK;
+            long nlo = lo - 1;
+            if (lo == 0) {
+                hi--;
+            }
+            lo = nlo;
+        }
+        r[ro] = lo;
+        r[ro + 1] = hi;
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        long lo = a[ao], hi = a[ao + 1];
+        if ((lo | hi) == 0) {
+            r[ro] = 0;
+            r[ro + 1] = 0;
+        } else {
+            // p - a = bitwise complement of a within 127 bits
+            r[ro] = ~lo;
+            r[ro + 1] = ~hi & HI_MASK;
+        }
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long a0 = a[ao], a1 = a[ao + 1];
+        long b0 = b[bo], b1 = b[bo + 1];
+
+        // 2x2 limb product t3..t0 (below 2^254)
+        long t0 = a0 * b0;
+        long t1 = Fp256.umulh(a0, b0);
+
+        long lo = a0 * b1, hi = Fp256.umulh(a0, b1);
+        t1 += lo;
+        long t2 = hi + (Long.compareUnsigned(t1, lo) < 0 ? 1 : 0);
+
+        lo = a1 * b0;
+        hi = Fp256.umulh(a1, b0);
+        t1 += lo;
+        hi += Long.compareUnsigned(t1, lo) < 0 ? 1 : 0;
+        t2 += hi;
+        long t3 = Long.compareUnsigned(t2, hi) < 0 ? 1 : 0;
+
+        lo = a1 * b1;
+        hi = Fp256.umulh(a1, b1);
+        t2 += lo;
+        t3 += hi + (Long.compareUnsigned(t2, lo) < 0 ? 1 : 0);
+
+        // x = H·2^127 + L ≡ H + L
+        long lLo = t0, lHi = t1 & HI_MASK;
+        long hLo = (t1 >>> 63) | (t2 << 1);
+        long hHi = (t2 >>> 63) | (t3 << 1);
+        long sLo = lLo + hLo;
+        long sHi = lHi + hHi + (Long.compareUnsigned(sLo, lLo) < 0 ? 1 : 0);
+        store(sLo, sHi, r, ro);
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        if (isZero(a, ao)) {
+            throw new ArithmeticException("Zero has no inverse modulo p");
+        }
+        // Fermat: a^(p-2), p - 2 = 2^127 - 3 (bits 126..2 set, bit 1 clear, bit 0 set)
+        long[] acc = {1, 0};
+        long[] base = {a[ao], a[ao + 1]};
+        for (int bit = 126; bit >= 0; bit--) {
+            mul(acc, 0, acc, 0, acc, 0);
+            if (bit != 1) {
+                mul(acc, 0, base, 0, acc, 0);
+            }
+        }
+        r[ro] = acc[0];
+        r[ro + 1] = acc[1];
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        byte[] bytes = new byte[16];
+        long lo, hi;
+        do {
+            secureRandom.nextBytes(bytes);
+            lo = Fp256Field.bytesToLong(bytes, 0);
+            hi = Fp256Field.bytesToLong(bytes, 8) & HI_MASK;
+        } while (lo == -1L && hi == HI_MASK);
+        r[ro] = lo;
+        r[ro + 1] = hi;
+    }
+
+    @Override
+    public boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        long lo = words[wo];
+        long hi = words[wo + 1] & HI_MASK;
+        if (lo == -1L && hi == HI_MASK) {
+            return false;
+        }
+        r[ro] = lo;
+        r[ro + 1] = hi;
+        return true;
+    }
+
+    @Override
+    public void copy(long[] a, int ao, long[] r, int ro) {
+        r[ro] = a[ao];
+        r[ro + 1] = a[ao + 1];
+    }
+
+    @Override
+    public boolean isZero(long[] a, int ao) {
+        return (a[ao] | a[ao + 1]) == 0;
+    }
+
+    @Override
+    public boolean equals(long[] a, int ao, long[] b, int bo) {
+        return a[ao] == b[bo] && a[ao + 1] == b[bo + 1];
+    }
+
+    // Accumulator layout: lo, hi, overflow count of 2^128 carries; each product is folded below 2^128 before it is added
+
+    @Override
+    public int accumulatorLimbs() {
+        return 3;
+    }
+
+    @Override
+    public void clearAccumulator(long[] acc, int o) {
+        acc[o] = 0;
+        acc[o + 1] = 0;
+        acc[o + 2] = 0;
+    }
+
+    @Override
+    public void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        long a0 = a[ao], a1 = a[ao + 1];
+        long b0 = b[bo], b1 = b[bo + 1];
+
+        long t0 = a0 * b0;
+        long t1 = Fp256.umulh(a0, b0);
+
+        long lo = a0 * b1, hi = Fp256.umulh(a0, b1);
+        t1 += lo;
+        long t2 = hi + (Long.compareUnsigned(t1, lo) < 0 ? 1 : 0);
+
+        lo = a1 * b0;
+        hi = Fp256.umulh(a1, b0);
+        t1 += lo;
+        hi += Long.compareUnsigned(t1, lo) < 0 ? 1 : 0;
+        t2 += hi;
+        long t3 = Long.compareUnsigned(t2, hi) < 0 ? 1 : 0;
+
+        lo = a1 * b1;
+        hi = Fp256.umulh(a1, b1);
+        t2 += lo;
+        t3 += hi + (Long.compareUnsigned(t2, lo) < 0 ? 1 : 0);
+
+        // H + L is below 2^128
+        long lLo = t0, lHi = t1 & HI_MASK;
+        long hLo = (t1 >>> 63) | (t2 << 1);
+        long hHi = (t2 >>> 63) | (t3 << 1);
+        long sLo = lLo + hLo;
+        long sHi = lHi + hHi + (Long.compareUnsigned(sLo, lLo) < 0 ? 1 : 0);
+        addWide(acc, o, sLo, sHi);
+    }
+
+    @Override
+    public void accumulate(long[] acc, int o, long[] a, int ao) {
+        addWide(acc, o, a[ao], a[ao + 1]);
+    }
+
+    @Override
+    public void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        // ov·2^128 + hi·2^64 + lo ≡ 2·ov + (hi >>> 63) + (hi & HI_MASK)·2^64 + lo
+        long hi = acc[o + 1];
+        long add = (acc[o + 2] << 1) + (hi >>> 63);
+        long lo = acc[o] + add;
+        hi = (hi & HI_MASK) + (Long.compareUnsigned(lo, add) < 0 ? 1 : 0);
+        store(lo, hi, r, ro);
+    }
+
+    private static void addWide(long[] acc, int o, long lo, long hi) {
+        long s = acc[o] + lo;
+        long c = Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        acc[o] = s;
+        long h = acc[o + 1] + hi + c;
+        acc[o + 2] += (Long.compareUnsigned(h, hi) < 0 || (c == 1 && h == hi)) ? 1 : 0;
+        acc[o + 1] = h;
+    }
+
+    /**
+     * Store (hi·2^64 + lo) mod p for a value below 2^128
+     */
+    private static void store(long lo, long hi, long[] r, int ro) {
+        // fold bit 127; the result is at most 2^127
+        long top = hi >>> 63;
+        hi &= HI_MASK;
+        lo += top;
+        if (top != 0 && lo == 0) {
+            hi++;
+        }
+        if (hi < 0) {
+            // exactly 2^127 ≡ 1
+            lo = 1;
+            hi = 0;
+        } else if (hi == HI_MASK && lo == -1L) {
+            // exactly p
+            lo = 0;
+            hi = 0;
+        }
+        r[ro] = lo;
+        r[ro + 1] = hi;
+    }
+}
@@ -0,0 +1,84 @@
+package code;
+
+import java.util.stream.IntStream;
+
+/**
+ * Blocked modular matrix multiplication C = V · A over a Field
+ * V is the rows×inner Vandermonde block of a PowerTable (row stride = table width) and A a dense inner×cols
+ * coefficient matrix, so row i of C is f(x_i, y) for every participant at once. The product is tiled over rows,
+ * the inner dimension and columns; each output tile lives in lazy-reduction accumulators and is reduced once
+ * Row tiles are independent, which gives the parallel variant for large participant counts
+ */
+public final class ModularMatrixKernel {
+    static final int ROW_BLOCK = 32;
+    static final int INNER_BLOCK = 64;
+    static final int COLUMN_BLOCK = 32;
+
+    /** Row count from which callers switch to the parallel variant */
+    public static final int PARALLEL_ROWS = 256;
+
+    private ModularMatrixKernel() {
+    }
+
+    /**
+     * out[i][j] = sum_k v[i][k] · a[k][j] for i < rows, j < cols
+     * v[i][k] is at v[(i·vStride + k)·limbs], a[k][j] at a[(k·cols + j)·limbs], out[i] holds cols elements
+     */
+    public static void multiply(Field field, long[] v, int vStride, int rows, int inner,
+                                long[] a, int cols, long[][] out) {
+        long[] acc = new long[ROW_BLOCK * COLUMN_BLOCK * field.accumulatorLimbs()];
+        for (int i0 = 0; i0 < rows; i0 += ROW_BLOCK) {
+            multiplyRowBlock(field, v, vStride, i0, Math.min(i0 + ROW_BLOCK, rows), inner, a, cols, out, acc);
+        }
+    }
+
+    /**
+     * Same as multiply, with row tiles spread over the common fork-join pool
+     */
+    public static void multiplyParallel(Field field, long[] v, int vStride, int rows, int inner,
+                                        long[] a, int cols, long[][] out) {
+        int blocks = (rows + ROW_BLOCK - 1) / ROW_BLOCK;
+        int accLength = ROW_BLOCK * COLUMN_BLOCK * field.accumulatorLimbs();
+        ThreadLocal<long[]> accumulators = ThreadLocal.withInitial(() -> new long[accLength]);
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int i0 = b * ROW_BLOCK;
+            multiplyRowBlock(field, v, vStride, i0, Math.min(i0 + ROW_BLOCK, rows), inner, a, cols, out,
+                    accumulators.get());
+        });
+    }
+
+    private static void multiplyRowBlock(Field field, long[] v, int vStride, int i0, int i1, int inner,
+                                         long[] a, int cols, long[][] out, long[] acc) {
+        int limbs = field.limbs();
+        int accLimbs = field.accumulatorLimbs();
+        for (int j0 = 0; j0 < cols; j0 += COLUMN_BLOCK) {
+            int j1 = Math.min(j0 + COLUMN_BLOCK, cols);
+            int tileCols = j1 - j0;
+            for (int i = i0; i < i1; i++) {
+                for (int j = 0; j < tileCols; j++) {
+                    field.clearAccumulator(acc, ((i - i0) * COLUMN_BLOCK + j) * accLimbs);
+                }
+            }
+            for (int k0 = 0; k0 < inner; k0 += INNER_BLOCK) {
+                int k1 = Math.min(k0 + INNER_BLOCK, inner);
+                for (int i = i0; i < i1; i++) {
+                    int accRow = (i - i0) * COLUMN_BLOCK * accLimbs;
+                    int vRow = i * vStride * limbs;
+                    for (int k = k0; k < k1; k++) {
+                        int vo = vRow + k * limbs;
+                        int ao = (k * cols + j0) * limbs;
+                        for (int j = 0; j < tileCols; j++) {
+                            field.accumulateProduct(acc, accRow + j * accLimbs, v, vo, a, ao + j * limbs);
+                        }
+                    }
+                }
+            }
+            for (int i = i0; i < i1; i++) {
+                int accRow = (i - i0) * COLUMN_BLOCK * accLimbs;
+                for (int j = 0; j < tileCols; j++) {
+                    field.reduceAccumulator(acc, accRow + j * accLimbs, out[i], (j0 + j) * limbs);
+                }
+            }
+        }
+    }
+}
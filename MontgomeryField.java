@@ -0,0 +1,301 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Field backend for an arbitrary odd prime of any size, in multi-limb Montgomery form
+ * An element x is stored as x·R mod p with R = 2^(64·limbs); products use CIOS (coarsely integrated operand
+ * scanning) Montgomery multiplication, so no step needs a division by p. The reduction context (-p^-1 mod 2^64,
+ * R^2 mod p and the Montgomery form of 1) is computed once per instance, which PrimeCatalog keeps per prime
+ * Conversions happen only in fromBigInteger, fromLong and toBigInteger; equality and zero tests work on the
+ * stored form directly
+ */
+public final class MontgomeryField implements Field {
+
+    private final BigInteger modulus;
+    private final int limbs;
+    private final long[] p;
+    /** -p^-1 mod 2^64 */
+    private final long pNegInv;
+    /** R^2 mod p, converts into Montgomery form */
+    private final long[] r2;
+    /** 1, converts out of Montgomery form */
+    private final long[] plainOne;
+    private final int bits;
+    // CIOS working value t[0..limbs+1], one per thread so r may alias a or b
+    private final ThreadLocal<long[]> scratch;
+
+    public MontgomeryField(BigInteger modulus) {
+        if (modulus.signum() <= 0 || !modulus.testBit(0) || modulus.bitLength() < 2) {
+            throw new IllegalArgumentException("Modulus must be an odd prime: " + modulus);
+        }
+        this.modulus = modulus;
+        this.bits = modulus.bitLength();
+        this.limbs = (bits + 63) / 64;
+        this.p = new long[limbs];
+        BigIntegerField.writeLimbs(modulus, limbs, p, 0);
+
+        // Newton iteration for p^-1 mod 2^64: each step doubles the number of correct low bits
+        long inv = p[0];
+        for (int i = 0; i < 5; i++) {
+            inv *= 2 - p[0] * inv;
+        }
+        this.pNegInv = -inv;
+
+        BigInteger r = BigInteger.ONE.shiftLeft(64 * limbs);
+        this.r2 = new long[limbs];
+        BigIntegerField.writeLimbs(r.multiply(r).mod(modulus), limbs, r2, 0);
+        this.plainOne = new long[limbs];
+        plainOne[0] = 1;
+        int width = limbs + 2;
+        this.scratch = ThreadLocal.withInitial(() -> new long[width]);
+    }
+
+    @Override
+    public String name() {
+        return "Montgomery" + bits;
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return modulus;
+    }
+
+    @Override
+    public int limbs() {
+        return limbs;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        BigIntegerField.writeLimbs(v.mod(modulus), limbs, r, ro);
+        mul(r, ro, r2, 0, r, ro);
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        long[] plain = new long[limbs];
+        mul(a, ao, plainOne, 0, plain, 0);
+        return BigIntegerField.readLimbs(plain, 0, limbs);
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        r[ro] = v;
+        for (int i = 1; i < limbs; i++) {
+            r[ro + i] = 0;
+        }
+        mul(r, ro, r2, 0, r, ro);
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long carry = 0;
+        for (int i = 0; i < limbs; i++) {
+            long x = a[ao + i], y = b[bo + i];
+            long s = x + y;
+            long c = ((x & y) | ((x | y) & ~s)) >>> 63;
+            long s2 = s + carry;
+            carry = c | ((s & ~s2) >>> 63);
+            r[ro + i] = s2;
+        }
+        if (carry != 0 || !lessThanP(r, ro)) {
+            subtractP(r, ro);
+        }
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long borrow = 0;
+        for (int i = 0; i < limbs; i++) {
+            long x = a[ao + i], y = b[bo + i];
+            long d = x - y;
+            long c = ((~x & y) | ((~x | y) & d)) >>> 63;
+            long d2 = d - borrow;
+            borrow = c | ((~d & d2) >>> 63);
+            r[ro + i] = d2;
+        }
+        if (borrow != 0) {
+            addP(r, ro);
+        }
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        if (isZero(a, ao)) {
+            for (int i = 0; i < limbs; i++) {
+                r[ro + i] = 0;
+            }
+            return;
+        }
+        long borrow = 0;
+        for (int i = 0; i < limbs; i++) {
+            long x = p[i], y = a[ao + i];
+            long d = x - y;
+            long c = ((~x & y) | ((~x | y) & d)) >>> 63;
+            long d2 = d - borrow;
+            borrow = c | ((~d & d2) >>> 63);
+            r[ro + i] = d2;
+        }
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long[] t = scratch.get();
+        for (int i = 0; i < limbs + 2; i++) {
+            t[i] = 0;
+        }
+        for (int i = 0; i < limbs; i++) {
+            // t += a · b_i
+            long bi = b[bo + i];
+            long carry = 0;
+            for (int j = 0; j < limbs; j++) {
+                long x = a[ao + j];
+                long lo = x * bi;
+                long hi = Fp256.umulh(x, bi);
+                long s = t[j] + lo;
+                hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+                long s2 = s + carry;
+                hi += Long.compareUnsigned(s2, carry) < 0 ? 1 : 0;
+                t[j] = s2;
+                carry = hi;
+            }
+            long s = t[limbs] + carry;
+            t[limbs + 1] = Long.compareUnsigned(s, carry) < 0 ? 1 : 0;
+            t[limbs] = s;
+
+            // t = (t + m·p) / 2^64 with m chosen so the low word vanishes
+            long m = t[0] * pNegInv;
+            long lo0 = m * p[0];
+            carry = Fp256.umulh(m, p[0]) + (Long.compareUnsigned(t[0] + lo0, lo0) < 0 ? 1 : 0);
+            for (int j = 1; j < limbs; j++) {
+                long lo = m * p[j];
+                long hi = Fp256.umulh(m, p[j]);
+                long u = t[j] + lo;
+                hi += Long.compareUnsigned(u, lo) < 0 ? 1 : 0;
+                long u2 = u + carry;
+                hi += Long.compareUnsigned(u2, carry) < 0 ? 1 : 0;
+                t[j - 1] = u2;
+                carry = hi;
+            }
+            long u = t[limbs] + carry;
+            t[limbs - 1] = u;
+            t[limbs] = t[limbs + 1] + (Long.compareUnsigned(u, carry) < 0 ? 1 : 0);
+        }
+        // t < 2p: one conditional subtraction
+        System.arraycopy(t, 0, r, ro, limbs);
+        if (t[limbs] != 0 || !lessThanP(r, ro)) {
+            subtractP(r, ro);
+        }
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        if (isZero(a, ao)) {
+            throw new ArithmeticException("Zero has no inverse modulo p");
+        }
+        // Inverses are rare (batched everywhere), so take the BigInteger route rather than a long Fermat chain
+        fromBigInteger(toBigInteger(a, ao).modInverse(modulus), r, ro);
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        // x ↦ x·R is a bijection on [0, p), so a uniform stored value is a uniform element
+        byte[] bytes = new byte[8 * limbs];
+        int topBits = bits - 64 * (limbs - 1);
+        long topMask = topBits == 64 ? -1L : (1L << topBits) - 1;
+        do {
+            secureRandom.nextBytes(bytes);
+            for (int i = 0; i < limbs; i++) {
+                r[ro + i] = Fp256Field.bytesToLong(bytes, 8 * i);
+            }
+            r[ro + limbs - 1] &= topMask;
+        } while (!lessThanP(r, ro));
+    }
+
+    @Override
+    public boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        int topBits = bits - 64 * (limbs - 1);
+        long top = topBits == 64 ? words[wo + limbs - 1] : words[wo + limbs - 1] & ((1L << topBits) - 1);
+        for (int i = limbs - 1; i >= 0; i--) {
+            long w = i == limbs - 1 ? top : words[wo + i];
+            int c = Long.compareUnsigned(w, p[i]);
+            if (c > 0 || (c == 0 && i == 0)) {
+                return false;
+            }
+            if (c < 0) {
+                break;
+            }
+        }
+        System.arraycopy(words, wo, r, ro, limbs);
+        r[ro + limbs - 1] = top; // stored form, see random
+        return true;
+    }
+
+    @Override
+    public void copy(long[] a, int ao, long[] r, int ro) {
+        System.arraycopy(a, ao, r, ro, limbs);
+    }
+
+    @Override
+    public boolean isZero(long[] a, int ao) {
+        long v = 0;
+        for (int i = 0; i < limbs; i++) {
+            v |= a[ao + i];
+        }
+        return v == 0;
+    }
+
+    @Override
+    public boolean equals(long[] a, int ao, long[] b, int bo) {
+        for (int i = 0; i < limbs; i++) {
+            if (a[ao + i] != b[bo + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ============================ Limb helpers ============================
+
+    private boolean lessThanP(long[] a, int ao) {
+        for (int i = limbs - 1; i >= 0; i--) {
+            int c = Long.compareUnsigned(a[ao + i], p[i]);
+            if (c != 0) {
+                return c < 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * a -= p, discarding the final borrow (the caller knows a ≥ p modulo 2^(64·limbs))
+     */
+    private void subtractP(long[] a, int ao) {
+        long borrow = 0;
+        for (int i = 0; i < limbs; i++) {
+            long x = a[ao + i], y = p[i];
+            long d = x - y;
+            long c = ((~x & y) | ((~x | y) & d)) >>> 63;
+            long d2 = d - borrow;
+            borrow = c | ((~d & d2) >>> 63);
+            a[ao + i] = d2;
+        }
+    }
+
+    /**
+     * a += p, discarding the final carry
+     */
+    private void addP(long[] a, int ao) {
+        long carry = 0;
+        for (int i = 0; i < limbs; i++) {
+            long x = a[ao + i], y = p[i];
+            long s = x + y;
+            long c = ((x & y) | ((x | y) & ~s)) >>> 63;
+            long s2 = s + carry;
+            carry = c | ((s & ~s2) >>> 63);
+            a[ao + i] = s2;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package code;
+
+import java.util.Arrays;
+
+/**
+ * Dense univariate polynomial kernels over a Field for the fast evaluation and interpolation paths
+ * A polynomial of length len is len coefficients in ascending order, field.limbs() longs each
+ * Multiplication is column-wise schoolbook with one lazy reduction per output coefficient below
+ * KARATSUBA_CUTOFF and Karatsuba above; division uses a Newton power-series inverse of the reversed divisor
+ */
+final class PolynomialArithmetic {
+    static final int KARATSUBA_CUTOFF = 32;
+
+    private PolynomialArithmetic() {
+    }
+
+    /**
+     * a · b, of length aLen + bLen - 1
+     */
+    static long[] multiply(Field field, long[] a, int ao, int aLen, long[] b, int bo, int bLen) {
+        int limbs = field.limbs();
+        if (aLen < bLen) {
+            return multiply(field, b, bo, bLen, a, ao, aLen);
+        }
+        if (bLen < KARATSUBA_CUTOFF) {
+            return schoolbook(field, a, ao, aLen, b, bo, bLen);
+        }
+        if (aLen > bLen) {
+            // Unbalanced: bLen-sized slices of a, each a balanced product shifted into place
+            long[] r = field.newElements(aLen + bLen - 1);
+            for (int s = 0; s < aLen; s += bLen) {
+                int sLen = Math.min(bLen, aLen - s);
+                long[] part = multiply(field, a, ao + s * limbs, sLen, b, bo, bLen);
+                addInto(field, part, sLen + bLen - 1, r, s * limbs);
+            }
+            return r;
+        }
+
+        // Karatsuba on equal lengths: (a0 + a1·x^h)(b0 + b1·x^h)
+        int len = aLen, h = len / 2, hiLen = len - h;
+        long[] z0 = multiply(field, a, ao, h, b, bo, h);
+        long[] z2 = multiply(field, a, ao + h * limbs, hiLen, b, bo + h * limbs, hiLen);
+        long[] sa = field.newElements(hiLen);
+        long[] sb = field.newElements(hiLen);
+        System.arraycopy(a, ao + h * limbs, sa, 0, hiLen * limbs);
+        System.arraycopy(b, bo + h * limbs, sb, 0, hiLen * limbs);
+        for (int i = 0; i < h; i++) {
+            field.add(sa, i * limbs, a, ao + i * limbs, sa, i * limbs);
+            field.add(sb, i * limbs, b, bo + i * limbs, sb, i * limbs);
+        }
+        long[] z1 = multiply(field, sa, 0, hiLen, sb, 0, hiLen);
+        for (int i = 0; i < 2 * h - 1; i++) {
+            field.sub(z1, i * limbs, z0, i * limbs, z1, i * limbs);
+        }
+        for (int i = 0; i < 2 * hiLen - 1; i++) {
+            field.sub(z1, i * limbs, z2, i * limbs, z1, i * limbs);
+        }
+
+        long[] r = field.newElements(2 * len - 1);
+        System.arraycopy(z0, 0, r, 0, (2 * h - 1) * limbs);
+        System.arraycopy(z2, 0, r, 2 * h * limbs, (2 * hiLen - 1) * limbs);
+        addInto(field, z1, 2 * hiLen - 1, r, h * limbs);
+        return r;
+    }
+
+    /**
+     * g with a · g ≡ 1 (mod x^n), by Newton iteration g ← g·(2 - a·g); a[ao] must be invertible
+     */
+    static long[] inverseSeries(Field field, long[] a, int ao, int aLen, int n) {
+        int limbs = field.limbs();
+        long[] g = field.newElements(1);
+        field.inverse(a, ao, g, 0);
+        long[] two = field.newElements(1);
+        field.fromLong(2, two, 0);
+        int k = 1;
+        while (k < n) {
+            int k2 = Math.min(2 * k, n);
+            long[] ag = multiply(field, a, ao, Math.min(aLen, k2), g, 0, k);
+            long[] e = field.newElements(k2);
+            int copied = Math.min(k2, ag.length / limbs);
+            for (int i = 0; i < copied; i++) {
+                field.negate(ag, i * limbs, e, i * limbs);
+            }
+            field.add(e, 0, two, 0, e, 0);
+            long[] next = multiply(field, g, 0, k, e, 0, k2);
+            g = new long[k2 * limbs];
+            System.arraycopy(next, 0, g, 0, k2 * limbs);
+            k = k2;
+        }
+        return g;
+    }
+
+    /**
+     * f mod m for a monic m of length mLen, into r[ro] (mLen - 1 coefficients)
+     * reversedInverse is the series inverse of the reversed m to at least fLen - mLen + 1 terms
+     */
+    static void remainder(Field field, long[] f, int fo, int fLen, long[] m, int mLen, long[] reversedInverse,
+                          long[] r, int ro) {
+        int limbs = field.limbs();
+        int d = mLen - 1;
+        if (fLen <= d) {
+            System.arraycopy(f, fo, r, ro, fLen * limbs);
+            Arrays.fill(r, ro + fLen * limbs, ro + d * limbs, 0);
+            return;
+        }
+        // Quotient from the reversed problem: rev(q) = rev(f) · rev(m)^-1 mod x^(fLen - d)
+        int qLen = fLen - d;
+        long[] reversedF = field.newElements(qLen);
+        for (int i = 0; i < qLen; i++) {
+            field.copy(f, fo + (fLen - 1 - i) * limbs, reversedF, i * limbs);
+        }
+        long[] reversedQ = multiply(field, reversedF, 0, qLen, reversedInverse, 0, qLen);
+        long[] q = field.newElements(qLen);
+        for (int i = 0; i < qLen; i++) {
+            field.copy(reversedQ, (qLen - 1 - i) * limbs, q, i * limbs);
+        }
+        // Only the low d coefficients of q·m are needed, and the leading 1 of m only reaches degree d and above
+        long[] qm = multiply(field, q, 0, Math.min(qLen, d), m, 0, d);
+        for (int i = 0; i < d; i++) {
+            field.sub(f, fo + i * limbs, qm, i * limbs, r, ro + i * limbs);
+        }
+    }
+
+    /**
+     * Coefficients of m reversed, as the input to inverseSeries for remainder
+     */
+    static long[] reverse(Field field, long[] m, int mLen) {
+        int limbs = field.limbs();
+        long[] reversed = field.newElements(mLen);
+        for (int i = 0; i < mLen; i++) {
+            field.copy(m, (mLen - 1 - i) * limbs, reversed, i * limbs);
+        }
+        return reversed;
+    }
+
+    private static long[] schoolbook(Field field, long[] a, int ao, int aLen, long[] b, int bo, int bLen) {
+        int limbs = field.limbs();
+        long[] r = field.newElements(aLen + bLen - 1);
+        long[] acc = new long[field.accumulatorLimbs()];
+        for (int k = 0; k < aLen + bLen - 1; k++) {
+            field.clearAccumulator(acc, 0);
+            int from = Math.max(0, k - bLen + 1), to = Math.min(k, aLen - 1);
+            for (int i = from; i <= to; i++) {
+                field.accumulateProduct(acc, 0, a, ao + i * limbs, b, bo + (k - i) * limbs);
+            }
+            field.reduceAccumulator(acc, 0, r, k * limbs);
+        }
+        return r;
+    }
+
+    private static void addInto(Field field, long[] part, int length, long[] r, int ro) {
+        int limbs = field.limbs();
+        for (int i = 0; i < length; i++) {
+            field.add(r, ro + i * limbs, part, i * limbs, r, ro + i * limbs);
+        }
+    }
+}
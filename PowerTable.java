@@ -0,0 +1,104 @@
+package code;
+
+/**
+ * Power table x_p^0 .. x_p^(width-1) for a fixed set of evaluation points over a Field
+ * Built once per participant-ID set and reused by every polynomial evaluation in a protocol run, so evaluating
+ * a polynomial at a participant ID is a plain dot product with no exponentiation; the table widens on demand
+ * when the threshold grows
+ */
+public final class PowerTable {
+    private final Field field;
+    private final int limbs;
+    private final long[] points;
+    private final int count;
+    private int width;
+    // Row-major count×width table, field.limbs() longs per entry
+    private long[] powers;
+    // Subproduct tree over the same points, built on first use
+    private SubproductTree tree;
+    // Lazy-reduction accumulator for dot
+    private final long[] accumulator;
+
+    /**
+     * Create a table for count points stored consecutively in points
+     */
+    public PowerTable(Field field, long[] points, int count, int width) {
+        this.field = field;
+        this.limbs = field.limbs();
+        this.points = points;
+        this.count = count;
+        this.accumulator = new long[field.accumulatorLimbs()];
+        this.width = 0;
+        this.powers = new long[0];
+        ensureWidth(width);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Make sure powers up to x^(width-1) are available for every point
+     */
+    public void ensureWidth(int newWidth) {
+        if (newWidth <= width) {
+            return;
+        }
+        long[] table = field.newElements(count * newWidth);
+        for (int p = 0; p < count; p++) {
+            int base = p * newWidth * limbs;
+            if (width > 0) {
+                System.arraycopy(powers, p * width * limbs, table, base, width * limbs);
+            } else {
+                field.fromLong(1, table, base);
+            }
+            for (int k = Math.max(width, 1); k < newWidth; k++) {
+                field.mul(table, base + (k - 1) * limbs, points, p * limbs, table, base + k * limbs);
+            }
+        }
+        this.powers = table;
+        this.width = newWidth;
+    }
+
+    /**
+     * Offset of x_point^k inside powers()
+     */
+    public int offset(int point, int k) {
+        return (point * width + k) * limbs;
+    }
+
+    public long[] powers() {
+        return powers;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Subproduct tree over the table's points, for evaluating long polynomials at every point at once
+     */
+    public SubproductTree subproductTree() {
+        if (tree == null) {
+            tree = SubproductTree.shared(field, points, count);
+        }
+        return tree;
+    }
+
+    /**
+     * r = sum_{k < length} c_k · x_point^k, where c_k = coeffs[co + k·stride]
+     * Products are summed unreduced and reduced once at the end
+     */
+    public void dot(long[] coeffs, int co, int stride, int length, int point, long[] r, int ro) {
+        if (length > width) {
+            ensureWidth(length);
+        }
+        int po = point * width * limbs;
+        field.clearAccumulator(accumulator, 0);
+        field.accumulate(accumulator, 0, coeffs, co); // c_0 · x^0
+        for (int k = 1; k < length; k++) {
+            field.accumulateProduct(accumulator, 0, coeffs, co + k * stride, powers, po + k * limbs);
+        }
+        field.reduceAccumulator(accumulator, 0, r, ro);
+    }
+}
@@ -0,0 +1,225 @@
+package code;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * Field backend for an arbitrary odd prime p < 2^63 on a single primitive long, in Montgomery form
+ * An element x is stored as x·R mod p with R = 2^64, so a product is one 64×64→128 multiply and one REDC
+ * Conversions happen only in fromBigInteger, fromLong and toBigInteger; equality and zero tests work on the
+ * stored form directly. Used for the word-size lanes of the residue-number-system mode
+ */
+public final class Prime64Field implements Field {
+
+    private final long p;
+    private final BigInteger modulus;
+    /** -p^-1 mod 2^64 */
+    private final long pNegInv;
+    /** R^2 mod p, converts into Montgomery form */
+    private final long r2;
+    /** Montgomery form of 1 */
+    private final long one;
+    private final int bits;
+
+    public Prime64Field(long p) {
+        if (p < 3 || (p & 1) == 0) {
+            throw new IllegalArgumentException("Modulus must be an odd prime below 2^63: " + p);
+        }
+        this.p = p;
+        this.modulus = BigInteger.valueOf(p);
+        this.bits = modulus.bitLength();
+
+        // Newton iteration for p^-1 mod 2^64: each step doubles the number of correct low bits
+        long inv = p;
+        for (int i = 0; i < 5; i++) {
+            inv *= 2 - p * inv;
+        }
+        this.pNegInv = -inv;
+
+        BigInteger r = BigInteger.ONE.shiftLeft(64);
+        this.one = r.mod(modulus).longValue();
+        this.r2 = r.multiply(r).mod(modulus).longValue();
+    }
+
+    /**
+     * The modulus as a long
+     */
+    public long prime() {
+        return p;
+    }
+
+    @Override
+    public String name() {
+        return "Prime" + bits;
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return modulus;
+    }
+
+    @Override
+    public int limbs() {
+        return 1;
+    }
+
+    @Override
+    public void fromBigInteger(BigInteger v, long[] r, int ro) {
+        r[ro] = mul(v.mod(modulus).longValue(), r2);
+    }
+
+    @Override
+    public BigInteger toBigInteger(long[] a, int ao) {
+        return BigInteger.valueOf(redc(a[ao], 0));
+    }
+
+    @Override
+    public void fromLong(long v, long[] r, int ro) {
+        r[ro] = mul(v, r2);
+    }
+
+    @Override
+    public void add(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long s = a[ao] + b[bo]; // below 2^64 as unsigned, below 2^63 + p as signed
+        r[ro] = (s < 0 || s >= p) ? s - p : s;
+    }
+
+    @Override
+    public void sub(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        long d = a[ao] - b[bo];
+        r[ro] = d < 0 ? d + p : d;
+    }
+
+    @Override
+    public void negate(long[] a, int ao, long[] r, int ro) {
+        long v = a[ao];
+        r[ro] = v == 0 ? 0 : p - v;
+    }
+
+    @Override
+    public void mul(long[] a, int ao, long[] b, int bo, long[] r, int ro) {
+        r[ro] = mul(a[ao], b[bo]);
+    }
+
+    @Override
+    public void inverse(long[] a, int ao, long[] r, int ro) {
+        long v = a[ao];
+        if (v == 0) {
+            throw new ArithmeticException("Zero has no inverse modulo p");
+        }
+        // Fermat: v^(p-2), staying in Montgomery form
+        long e = p - 2;
+        long result = one;
+        long base = v;
+        while (e != 0) {
+            if ((e & 1) != 0) {
+                result = mul(result, base);
+            }
+            base = mul(base, base);
+            e >>>= 1;
+        }
+        r[ro] = result;
+    }
+
+    @Override
+    public void random(SecureRandom secureRandom, long[] r, int ro) {
+        // x ↦ x·R is a bijection on [0, p), so a uniform stored value is a uniform element
+        byte[] bytes = new byte[8];
+        long mask = -1L >>> (64 - bits);
+        long v;
+        do {
+            secureRandom.nextBytes(bytes);
+            v = Fp256Field.bytesToLong(bytes, 0) & mask;
+        } while (v >= p);
+        r[ro] = v;
+    }
+
+    @Override
+    public boolean fromRandomLimbs(long[] words, int wo, long[] r, int ro) {
+        long v = words[wo] & (-1L >>> (64 - bits));
+        if (v >= p) {
+            return false;
+        }
+        r[ro] = v; // stored form, see random
+        return true;
+    }
+
+    @Override
+    public void copy(long[] a, int ao, long[] r, int ro) {
+        r[ro] = a[ao];
+    }
+
+    @Override
+    public boolean isZero(long[] a, int ao) {
+        return a[ao] == 0;
+    }
+
+    @Override
+    public boolean equals(long[] a, int ao, long[] b, int bo) {
+        return a[ao] == b[bo];
+    }
+
+    // Accumulator layout: lo, hi, overflow count of 2^128 carries
+    // Products of stored values carry a factor R^2, so a plain element is added as x·R, i.e. into the high word
+
+    @Override
+    public int accumulatorLimbs() {
+        return 3;
+    }
+
+    @Override
+    public void clearAccumulator(long[] acc, int o) {
+        acc[o] = 0;
+        acc[o + 1] = 0;
+        acc[o + 2] = 0;
+    }
+
+    @Override
+    public void accumulateProduct(long[] acc, int o, long[] a, int ao, long[] b, int bo) {
+        long x = a[ao], y = b[bo];
+        long lo = x * y;
+        long hi = Math.multiplyHigh(x, y); // both operands are below 2^63
+        long s = acc[o] + lo;
+        hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+        acc[o] = s;
+        long h = acc[o + 1] + hi;
+        acc[o + 2] += Long.compareUnsigned(h, hi) < 0 ? 1 : 0;
+        acc[o + 1] = h;
+    }
+
+    @Override
+    public void accumulate(long[] acc, int o, long[] a, int ao) {
+        long v = a[ao];
+        long h = acc[o + 1] + v;
+        acc[o + 2] += Long.compareUnsigned(h, v) < 0 ? 1 : 0;
+        acc[o + 1] = h;
+    }
+
+    @Override
+    public void reduceAccumulator(long[] acc, int o, long[] r, int ro) {
+        // V = X·2^64 + lo with X = overflow·2^64 + hi; V·R^-1 = (X mod p) + REDC(lo)
+        long x = mul(redc(acc[o + 1], acc[o + 2] % p), r2);
+        long l = redc(acc[o], 0);
+        long s = x + l;
+        r[ro] = s >= p ? s - p : s;
+    }
+
+    // ============================ Montgomery kernels ============================
+
+    /**
+     * Montgomery product a·b·R^-1 mod p of two values below p
+     */
+    long mul(long a, long b) {
+        return redc(a * b, Math.multiplyHigh(a, b));
+    }
+
+    /**
+     * (hi·2^64 + lo)·R^-1 mod p for hi < p
+     */
+    long redc(long lo, long hi) {
+        long m = lo * pNegInv;
+        // lo + m·p ≡ 0 (mod 2^64), so its low word carries exactly when lo ≠ 0
+        long t = hi + Fp256.umulh(m, p) + (lo != 0 ? 1 : 0);
+        return t >= p || t < 0 ? t - p : t;
+    }
+}
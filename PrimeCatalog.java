@@ -0,0 +1,68 @@
+package code;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catalog of benchmark primes by bit length, each with a ready reduction context
+ * A k-bit entry is the largest prime below 2^k, written as 2^k - c with c precomputed for the standard sizes
+ * (finding c for 2048+ bits takes about a minute of primality tests). Other sizes are searched once and kept
+ * The 256-bit entry is the secp256k1 prime, the repo's long-standing default, so it maps to the specialised
+ * Fp256Field; every other prime gets a MontgomeryField, built once and shared by all instances
+ */
+public final class PrimeCatalog {
+    /** Bit lengths of the benchmark sweep */
+    public static final int[] STANDARD_BIT_LENGTHS = {128, 256, 384, 521, 2048};
+
+    // Largest prime below 2^k is 2^k - OFFSETS[i][1] for k = OFFSETS[i][0]
+    private static final int[][] OFFSETS = {
+            {128, 159},
+            {384, 317},
+            {521, 1},
+            {2048, 1557},
+            {3072, 47},
+            {4096, 2549}
+    };
+
+    private static final Map<Integer, BigInteger> PRIMES = new ConcurrentHashMap<>();
+    private static final Map<Integer, Field> FIELDS = new ConcurrentHashMap<>();
+
+    static {
+        PRIMES.put(256, Fp256.P);
+        for (int[] entry : OFFSETS) {
+            PRIMES.put(entry[0], BigInteger.ONE.shiftLeft(entry[0]).subtract(BigInteger.valueOf(entry[1])));
+        }
+    }
+
+    private PrimeCatalog() {
+    }
+
+    /**
+     * The catalog prime of the given bit length
+     */
+    public static BigInteger prime(int bits) {
+        if (bits < 3) {
+            throw new IllegalArgumentException("Prime bit length must be at least 3: " + bits);
+        }
+        return PRIMES.computeIfAbsent(bits, PrimeCatalog::largestPrimeBelowPowerOfTwo);
+    }
+
+    /**
+     * The field over the catalog prime of the given bit length, with its reduction context
+     */
+    public static Field field(int bits) {
+        return FIELDS.computeIfAbsent(bits, b -> {
+            BigInteger p = prime(b);
+            return p.equals(Fp256.P) ? Fp256Field.INSTANCE : new MontgomeryField(p);
+        });
+    }
+
+    private static BigInteger largestPrimeBelowPowerOfTwo(int bits) {
+        BigInteger candidate = BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.ONE);
+        while (!candidate.isProbablePrime(64)) {
+            candidate = candidate.subtract(BigInteger.TWO);
+        }
+        return candidate;
+    }
+}
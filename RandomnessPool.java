@@ -0,0 +1,240 @@
+package code;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded background pool of random coefficient blocks, one queue per block size
+ * A block for threshold t holds the t(t+1)/2 - 1 non-constant coefficients of a symmetric bivariate polynomial,
+ * so dealing and pre-expansion only evaluate on the online path; takeElements serves other sizes, such as the
+ * t - 1 coefficients of a univariate re-sharing polynomial. A daemon producer refills every queue that falls to
+ * LOW_WATERMARK back up to HIGH_WATERMARK; a consumer that finds its queue empty generates the block
+ * synchronously and counts as starved. Block sizes are registered on first demand
+ * Ready blocks of all sizes together never exceed MAX_POOL_BYTES, and a size nobody has taken for IDLE_NANOS is
+ * dropped with its blocks, so a run that reshares to many thresholds does not keep a full queue for each one
+ * Blocks are drawn from the producer thread's pooled DRBG and handed out exactly once
+ */
+public final class RandomnessPool {
+    public static final int HIGH_WATERMARK = 32;
+    public static final int LOW_WATERMARK = 8;
+    public static final long MAX_POOL_BYTES = 64L << 20;
+    public static final long IDLE_NANOS = 30_000_000_000L;
+    private static final long IDLE_CHECK_MILLIS = 5_000;
+
+    // Shared pools, one per element representation: backend class and modulus
+    private static final Map<List<Object>, RandomnessPool> SHARED = new ConcurrentHashMap<>();
+
+    private final Field field;
+    private final Map<Integer, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final Object signal = new Object();
+    private boolean refillRequested;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong starvations = new AtomicLong();
+    private final AtomicLong produced = new AtomicLong();
+    private final AtomicLong evictedSizes = new AtomicLong();
+
+    private RandomnessPool(Field field) {
+        this.field = field;
+        Thread producer = new Thread(this::produce, "randomness-pool-" + field.name());
+        producer.setDaemon(true);
+        producer.setPriority(Thread.MIN_PRIORITY);
+        producer.start();
+    }
+
+    /**
+     * Get the pool shared by all instances over this field
+     */
+    public static RandomnessPool shared(Field field) {
+        return SHARED.computeIfAbsent(Arrays.asList(field.getClass(), field.modulus()), k -> new RandomnessPool(field));
+    }
+
+    /**
+     * All shared pools created so far
+     */
+    public static Collection<RandomnessPool> sharedPools() {
+        return SHARED.values();
+    }
+
+    /**
+     * Number of elements in one block for threshold t
+     */
+    public static int blockElements(int threshold) {
+        return threshold * (threshold + 1) / 2 - 1;
+    }
+
+    /**
+     * Copy one fresh block for the threshold to r[ro], from the pool or, if it is empty, generated here
+     */
+    public void take(int threshold, long[] r, int ro) {
+        takeElements(blockElements(threshold), r, ro);
+    }
+
+    /**
+     * Copy count fresh random elements to r[ro], from the pool or, if it is empty, generated here
+     */
+    public void takeElements(int count, long[] r, int ro) {
+        Lane lane = lane(count);
+        lane.lastDemand = System.nanoTime();
+        long[] block = lane.blocks.poll();
+        if (block != null) {
+            pooledBytes.addAndGet(-blockBytes(count));
+            hits.incrementAndGet();
+            System.arraycopy(block, 0, r, ro, block.length);
+        } else {
+            starvations.incrementAndGet();
+            fill(BCCryptoUtils.threadLocalRandom(), count, r, ro);
+        }
+        if (lane.blocks.size() <= LOW_WATERMARK) {
+            requestRefill();
+        }
+    }
+
+    /**
+     * Register the threshold and wake the producer, so later takes find ready blocks
+     */
+    public void prefill(int threshold) {
+        lane(blockElements(threshold)).lastDemand = System.nanoTime();
+        requestRefill();
+    }
+
+    /**
+     * Ready blocks for the threshold
+     */
+    public int available(int threshold) {
+        Lane lane = lanes.get(blockElements(threshold));
+        return lane == null ? 0 : lane.blocks.size();
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Takes that found the pool empty and fell back to synchronous generation
+     */
+    public long starvations() {
+        return starvations.get();
+    }
+
+    public long produced() {
+        return produced.get();
+    }
+
+    /**
+     * Bytes held in ready blocks, at most MAX_POOL_BYTES
+     */
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    /**
+     * Block sizes dropped after going unused for IDLE_NANOS
+     */
+    public long evictedSizes() {
+        return evictedSizes.get();
+    }
+
+    @Override
+    public String toString() {
+        long h = hits(), s = starvations();
+        return String.format("Randomness pool [%s]: %d hits, %d starvations (starvation rate %.2f%%), %d blocks produced, %d block sizes (%d evicted), %.1f/%d MiB pooled",
+                field.name(), h, s, (h + s) == 0 ? 0.0 : s * 100.0 / (h + s), produced(), lanes.size(), evictedSizes(),
+                pooledBytes() / (double) (1 << 20), MAX_POOL_BYTES >> 20);
+    }
+
+    private Lane lane(int count) {
+        return lanes.computeIfAbsent(count, c -> new Lane());
+    }
+
+    private long blockBytes(int count) {
+        return (long) count * field.limbs() * Long.BYTES;
+    }
+
+    private void requestRefill() {
+        synchronized (signal) {
+            refillRequested = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void fill(SecureRandom secureRandom, int count, long[] r, int ro) {
+        int limbs = field.limbs();
+        for (int k = 0; k < count; k++) {
+            field.random(secureRandom, r, ro + k * limbs);
+        }
+    }
+
+    /**
+     * Producer loop: drop idle sizes, then top every queue at or below the low watermark up to the high watermark
+     * while the byte cap allows, then wait for a refill request or the next idle check
+     */
+    private void produce() {
+        SecureRandom secureRandom = BCCryptoUtils.threadLocalRandom();
+        while (true) {
+            synchronized (signal) {
+                if (!refillRequested) {
+                    try {
+                        signal.wait(IDLE_CHECK_MILLIS);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                refillRequested = false;
+            }
+            evictIdle();
+            for (Map.Entry<Integer, Lane> entry : lanes.entrySet()) {
+                ArrayBlockingQueue<long[]> queue = entry.getValue().blocks;
+                if (queue.size() > LOW_WATERMARK) {
+                    continue;
+                }
+                int count = entry.getKey();
+                long bytes = blockBytes(count);
+                // Only this thread adds to pooledBytes, so a passed check cannot be overtaken; a pass tops up at most
+                // what was missing when it started, so a busy size cannot keep the producer from the other sizes
+                for (int missing = queue.remainingCapacity(); missing > 0 && pooledBytes.get() + bytes <= MAX_POOL_BYTES; missing--) {
+                    long[] block = field.newElements(count);
+                    fill(secureRandom, count, block, 0);
+                    pooledBytes.addAndGet(bytes);
+                    if (!queue.offer(block)) {
+                        pooledBytes.addAndGet(-bytes);
+                        break;
+                    }
+                    produced.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop every size not taken for IDLE_NANOS; a later take registers it again
+     */
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (Map.Entry<Integer, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            if (now - lane.lastDemand > IDLE_NANOS && lanes.remove(entry.getKey(), lane)) {
+                evictedSizes.incrementAndGet();
+                long bytes = blockBytes(entry.getKey());
+                while (lane.blocks.poll() != null) {
+                    pooledBytes.addAndGet(-bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ready blocks of one size and when a consumer last asked for that size
+     */
+    private static final class Lane {
+        final ArrayBlockingQueue<long[]> blocks = new ArrayBlockingQueue<>(HIGH_WATERMARK);
+        volatile long lastDemand = System.nanoTime();
+    }
+}
@@ -0,0 +1,149 @@
+package code;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Residue-number-system mode of the dynamic-threshold scheme
+ * A secret below M = p_1 · ... · p_L is split into residues modulo L word-size primes; each residue is shared by
+ * its own DynamicThresholdSecretSharingVersion9App instance over a Prime64Field, so every lane runs on primitive
+ * long arithmetic. Protocol operations run on all lanes in parallel, and recovery recombines the lane secrets
+ * with the Chinese remainder theorem. The lanes share participants, thresholds and quorums
+ */
+public final class RnsSecretSharing {
+    /** Five 62-bit lanes cover 256-bit secrets */
+    public static final int DEFAULT_LANES = 5;
+    private static final int LANE_BITS = 62;
+
+    private final Prime64Field[] fields;
+    private final DynamicThresholdSecretSharingVersion9App[] lanes;
+    private final BigInteger modulus;
+    // CRT basis: crtBasis[k] ≡ 1 (mod p_k) and ≡ 0 modulo every other lane prime
+    private final BigInteger[] crtBasis;
+    private final boolean verbose;
+
+    public RnsSecretSharing(int n, int initialThreshold, boolean verbose) {
+        this(n, initialThreshold, verbose, DEFAULT_LANES);
+    }
+
+    public RnsSecretSharing(int n, int initialThreshold, boolean verbose, int laneCount) {
+        this.verbose = verbose;
+        long[] primes = lanePrimes(laneCount);
+        this.fields = new Prime64Field[laneCount];
+        this.lanes = new DynamicThresholdSecretSharingVersion9App[laneCount];
+        BigInteger m = BigInteger.ONE;
+        for (int k = 0; k < laneCount; k++) {
+            fields[k] = new Prime64Field(primes[k]);
+            lanes[k] = new DynamicThresholdSecretSharingVersion9App(n, initialThreshold, false, fields[k]);
+            m = m.multiply(fields[k].modulus());
+        }
+        this.modulus = m;
+        this.crtBasis = new BigInteger[laneCount];
+        for (int k = 0; k < laneCount; k++) {
+            BigInteger pk = fields[k].modulus();
+            BigInteger others = m.divide(pk);
+            crtBasis[k] = others.multiply(others.modInverse(pk)).mod(m);
+        }
+
+        if (verbose) {
+            System.out.println("✓ RNS mode: " + laneCount + " lanes of " + LANE_BITS + "-bit primes, secrets below 2^"
+                    + (m.bitLength() - 1));
+        }
+    }
+
+    /**
+     * The laneCount largest primes below 2^62, in descending order
+     */
+    static long[] lanePrimes(int laneCount) {
+        long[] primes = new long[laneCount];
+        BigInteger candidate = BigInteger.ONE.shiftLeft(LANE_BITS).subtract(BigInteger.ONE);
+        for (int k = 0; k < laneCount; k++) {
+            while (!candidate.isProbablePrime(64)) {
+                candidate = candidate.subtract(BigInteger.TWO);
+            }
+            primes[k] = candidate.longValueExact();
+            candidate = candidate.subtract(BigInteger.TWO);
+        }
+        return primes;
+    }
+
+    /**
+     * Product of the lane primes; secrets must lie in [0, modulus)
+     */
+    public BigInteger modulus() {
+        return modulus;
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Split the secret into residues and run system initialisation on every lane
+     */
+    public void systemInitialization(BigInteger secret) {
+        if (secret.signum() < 0 || secret.compareTo(modulus) >= 0) {
+            throw new IllegalArgumentException("Secret must lie in [0, " + modulus + ")");
+        }
+        forEachLane(k -> lanes[k].systemInitialization(secret.mod(fields[k].modulus())));
+    }
+
+    public void thresholdDecrease(int newThreshold) {
+        forEachLane(k -> lanes[k].thresholdDecrease(newThreshold));
+    }
+
+    public void thresholdAdjustUp(int newThreshold) {
+        forEachLane(k -> lanes[k].thresholdAdjustUp(newThreshold));
+    }
+
+    public void thresholdPreexpansion(int newThreshold) {
+        forEachLane(k -> lanes[k].thresholdPreexpansion(newThreshold));
+    }
+
+    public void workingShareUpdate(String contextInfo, int updateRound) {
+        forEachLane(k -> lanes[k].workingShareUpdate(contextInfo, updateRound));
+    }
+
+    public void mainShareUpdate(String contextInfo, int updateRound) {
+        forEachLane(k -> lanes[k].mainShareUpdate(contextInfo, updateRound));
+    }
+
+    /**
+     * Recover every lane's residue from working shares and recombine with CRT
+     */
+    public BigInteger secretRecoveryFromWorkingShares(List<Integer> participantIndices, boolean flag) {
+        BigInteger[] residues = new BigInteger[lanes.length];
+        forEachLane(k -> residues[k] = lanes[k].secretRecoveryFromWorkingShares(participantIndices, flag));
+        return combine(residues);
+    }
+
+    /**
+     * Recover every lane's residue from master shares and recombine with CRT
+     */
+    public BigInteger secretRecoveryFromMainShares(List<Integer> participantIndices, boolean flag) {
+        BigInteger[] residues = new BigInteger[lanes.length];
+        forEachLane(k -> residues[k] = lanes[k].secretRecoveryFromMainShares(participantIndices, flag));
+        return combine(residues);
+    }
+
+    /**
+     * x ≡ residues[k] (mod p_k) for every lane, as the unique value in [0, modulus)
+     */
+    private BigInteger combine(BigInteger[] residues) {
+        BigInteger x = BigInteger.ZERO;
+        for (int k = 0; k < residues.length; k++) {
+            x = x.add(residues[k].multiply(crtBasis[k]));
+        }
+        BigInteger recovered = x.mod(modulus);
+        if (verbose) {
+            System.out.println("✓ RNS recovery: recombined " + residues.length + " lane residues");
+        }
+        return recovered;
+    }
+
+    private void forEachLane(IntConsumer operation) {
+        IntStream.range(0, lanes.length).parallel().forEach(operation);
+    }
+}
@@ -0,0 +1,61 @@
+package code;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.KeyParameter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * HKDF-style public seed schedule for share-update rounds
+ * PRK = HMAC-SHA256(SALT, epochKey) is extracted once; the seed of a round is
+ * HMAC-SHA256(PRK, purpose ‖ len(context) ‖ context ‖ round) with a fixed-width binary encoding, so any
+ * (purpose, context, round) is derived in O(1) without replaying earlier rounds. Instances are immutable and
+ * can be shared between threads, e.g. to precompute future update polynomials in parallel
+ */
+public final class SeedSchedule {
+    /** Epoch key every participant starts from */
+    public static final byte[] DEFAULT_EPOCH_KEY = BCCryptoUtils.sha256("DTSS default epoch".getBytes(StandardCharsets.US_ASCII));
+
+    public static final int SEED_BYTES = 32;
+
+    /** Seed purposes; each is its own domain */
+    public static final byte WORKING_SHARE_UPDATE = 1;
+    public static final byte MAIN_SHARE_UPDATE = 2;
+
+    private static final byte[] SALT = "DTSS-seed-schedule-v1".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] prk;
+
+    public SeedSchedule(byte[] epochKey) {
+        this.prk = hmac(SALT, epochKey);
+    }
+
+    /**
+     * Seed of the given purpose, context and round
+     */
+    public byte[] seed(byte purpose, String contextInfo, long round) {
+        byte[] context = contextInfo.getBytes(StandardCharsets.UTF_8);
+        byte[] info = new byte[1 + 4 + context.length + 8];
+        info[0] = purpose;
+        writeBigEndian(context.length, 4, info, 1);
+        System.arraycopy(context, 0, info, 5, context.length);
+        writeBigEndian(round, 8, info, 5 + context.length);
+        return hmac(prk, info);
+    }
+
+    private static byte[] hmac(byte[] key, byte[] message) {
+        HMac mac = new HMac(new SHA256Digest());
+        mac.init(new KeyParameter(key));
+        mac.update(message, 0, message.length);
+        byte[] out = new byte[SEED_BYTES];
+        mac.doFinal(out, 0);
+        return out;
+    }
+
+    private static void writeBigEndian(long v, int bytes, byte[] r, int ro) {
+        for (int i = 0; i < bytes; i++) {
+            r[ro + i] = (byte) (v >>> (8 * (bytes - 1 - i)));
+        }
+    }
+}
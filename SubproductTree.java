@@ -0,0 +1,254 @@
+package code;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subproduct tree over a fixed set of evaluation points, for evaluating one polynomial at every point at once
+ * Leaves are the products (x - x_i) over blocks of LEAF_POINTS consecutive points and every inner node is the
+ * product of its two children. A polynomial is reduced modulo each node on the way down, so evaluation costs
+ * O(M(n) log n) instead of O(n·t); each node keeps the power-series inverse of its reversal for fast remainders
+ * The tree depends only on the points, so one tree is shared per field and participant-ID set
+ */
+public final class SubproductTree {
+    /** Points per leaf block; remainders at a leaf are evaluated directly */
+    static final int LEAF_POINTS = 32;
+
+    /** Point count from which the tree pays for itself (with length at least MIN_LENGTH) */
+    public static final int MIN_POINTS = 4096;
+
+    /** Polynomial length from which the tree pays for itself */
+    public static final int MIN_LENGTH = 4096;
+
+    /** Single-limb fields have very cheap direct dot products, so the tree only wins much later */
+    public static final int MIN_LENGTH_SINGLE_LIMB = 16384;
+
+    private static final Map<LagrangeCache.IdSetKey, SubproductTree> SHARED = new ConcurrentHashMap<>();
+
+    private final Field field;
+    private final int limbs;
+    private final long[] points;
+    private final int count;
+    // levels[0] are the leaves, levels[depth - 1] holds the root; each node is a monic polynomial
+    private final long[][][] levels;
+    private final int[][] starts; // first point index under each node
+    private final int[][] sizes;  // number of points under each node = node degree
+    // Series inverse of each reversed node, to the precision its parent's remainders need
+    private final long[][][] reversedInverses;
+
+    private SubproductTree(Field field, long[] points, int count) {
+        this.field = field;
+        this.limbs = field.limbs();
+        this.points = points;
+        this.count = count;
+
+        int leaves = (count + LEAF_POINTS - 1) / LEAF_POINTS;
+        int depth = 1;
+        for (int w = leaves; w > 1; w = (w + 1) / 2) {
+            depth++;
+        }
+        levels = new long[depth][][];
+        starts = new int[depth][];
+        sizes = new int[depth][];
+        reversedInverses = new long[depth][][];
+
+        levels[0] = new long[leaves][];
+        starts[0] = new int[leaves];
+        sizes[0] = new int[leaves];
+        for (int b = 0; b < leaves; b++) {
+            int from = b * LEAF_POINTS, size = Math.min(LEAF_POINTS, count - from);
+            starts[0][b] = from;
+            sizes[0][b] = size;
+            levels[0][b] = linearFactors(from, size);
+        }
+        for (int l = 1; l < depth; l++) {
+            int below = levels[l - 1].length, width = (below + 1) / 2;
+            levels[l] = new long[width][];
+            starts[l] = new int[width];
+            sizes[l] = new int[width];
+            for (int k = 0; k < width; k++) {
+                int left = 2 * k, right = 2 * k + 1;
+                starts[l][k] = starts[l - 1][left];
+                if (right < below) {
+                    levels[l][k] = PolynomialArithmetic.multiply(field,
+                            levels[l - 1][left], 0, sizes[l - 1][left] + 1,
+                            levels[l - 1][right], 0, sizes[l - 1][right] + 1);
+                    sizes[l][k] = sizes[l - 1][left] + sizes[l - 1][right];
+                } else {
+                    levels[l][k] = levels[l - 1][left];
+                    sizes[l][k] = sizes[l - 1][left];
+                }
+            }
+        }
+        // Children of a node see inputs of at most the node's degree, so that bounds their quotient length
+        for (int l = 0; l < depth - 1; l++) {
+            reversedInverses[l] = new long[levels[l].length][];
+            for (int k = 0; k < levels[l].length; k++) {
+                int size = sizes[l][k];
+                int parentSize = sizes[l + 1][k / 2];
+                reversedInverses[l][k] = inverseOfReversed(levels[l][k], size, Math.max(1, parentSize - size));
+            }
+        }
+    }
+
+    /**
+     * Get the tree shared by all instances over this field and these count points
+     */
+    public static SubproductTree shared(Field field, long[] points, int count) {
+        long[] ids = Arrays.copyOf(points, count * field.limbs());
+        LagrangeCache.IdSetKey key = new LagrangeCache.IdSetKey(field, ids);
+        return SHARED.computeIfAbsent(key, k -> new SubproductTree(field, ids, count));
+    }
+
+    /**
+     * Build an unshared tree over count points, e.g. a recovery quorum
+     */
+    static SubproductTree over(Field field, long[] points, int count) {
+        return new SubproductTree(field, Arrays.copyOf(points, count * field.limbs()), count);
+    }
+
+    /**
+     * Whether evaluating a polynomial of this length at count points should go through the tree
+     */
+    public static boolean worthwhile(Field field, int count, int length) {
+        int minLength = field.limbs() == 1 ? MIN_LENGTH_SINGLE_LIMB : MIN_LENGTH;
+        return count >= MIN_POINTS && length >= minLength;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * The root M(x) = prod (x - x_i), of length count + 1
+     */
+    public long[] vanishingPolynomial() {
+        return levels[levels.length - 1][0];
+    }
+
+    /**
+     * sum_i w_i · M(x) / (x - x_i) with w_i = weights[wo + i·limbs], of length count
+     * Built bottom-up: a node combines its children as c_left · M_right + c_right · M_left
+     */
+    public long[] linearCombination(long[] weights, int wo) {
+        return combine(levels.length - 1, 0, weights, wo);
+    }
+
+    /**
+     * r[ro + i·limbs] = c(x_i) for every point, where c has coefficients coeffs[co + k·stride], k < length
+     */
+    public void evaluate(long[] coeffs, int co, int stride, int length, long[] r, int ro) {
+        long[] f = field.newElements(length);
+        for (int k = 0; k < length; k++) {
+            field.copy(coeffs, co + k * stride, f, k * limbs);
+        }
+        int top = levels.length - 1;
+        int rootSize = sizes[top][0];
+        if (length > rootSize) {
+            // Longer than the point count: reduce modulo the root first (rare, t > n)
+            long[] reduced = field.newElements(rootSize);
+            long[] inverse = inverseOfReversed(levels[top][0], rootSize, length - rootSize);
+            PolynomialArithmetic.remainder(field, f, 0, length, levels[top][0], rootSize + 1, inverse, reduced, 0);
+            f = reduced;
+            length = rootSize;
+        }
+        descend(top, 0, f, length, r, ro);
+    }
+
+    private void descend(int level, int node, long[] f, int length, long[] r, int ro) {
+        if (level == 0) {
+            int from = starts[0][node];
+            for (int i = 0; i < sizes[0][node]; i++) {
+                horner(f, length, (from + i) * limbs, r, ro + (from + i) * limbs);
+            }
+            return;
+        }
+        for (int child = 2 * node; child < Math.min(2 * node + 2, levels[level - 1].length); child++) {
+            int size = sizes[level - 1][child];
+            if (length <= size) {
+                descend(level - 1, child, f, length, r, ro);
+            } else {
+                long[] rem = field.newElements(size);
+                PolynomialArithmetic.remainder(field, f, 0, length, levels[level - 1][child], size + 1,
+                        reversedInverses[level - 1][child], rem, 0);
+                descend(level - 1, child, rem, size, r, ro);
+            }
+        }
+    }
+
+    private long[] combine(int level, int node, long[] weights, int wo) {
+        int size = sizes[level][node];
+        if (level == 0) {
+            // sum over the block of w_i times the synthetic quotient of the leaf polynomial by (x - x_i)
+            long[] m = levels[0][node];
+            long[] r = field.newElements(size);
+            long[] q = field.newElements(1);
+            long[] term = field.newElements(1);
+            int from = starts[0][node];
+            for (int i = 0; i < size; i++) {
+                int xo = (from + i) * limbs, w = wo + (from + i) * limbs;
+                field.fromLong(1, q, 0);
+                for (int k = size - 1; ; k--) {
+                    field.mul(q, 0, weights, w, term, 0);
+                    field.add(r, k * limbs, term, 0, r, k * limbs);
+                    if (k == 0) {
+                        break;
+                    }
+                    // q_(k-1) = m_k + x_i · q_k
+                    field.mul(q, 0, points, xo, q, 0);
+                    field.add(q, 0, m, k * limbs, q, 0);
+                }
+            }
+            return r;
+        }
+        int left = 2 * node, right = 2 * node + 1;
+        if (right >= levels[level - 1].length) {
+            return combine(level - 1, left, weights, wo);
+        }
+        int leftSize = sizes[level - 1][left], rightSize = sizes[level - 1][right];
+        long[] cLeft = combine(level - 1, left, weights, wo);
+        long[] cRight = combine(level - 1, right, weights, wo);
+        long[] r = PolynomialArithmetic.multiply(field, cLeft, 0, leftSize, levels[level - 1][right], 0, rightSize + 1);
+        long[] other = PolynomialArithmetic.multiply(field, cRight, 0, rightSize, levels[level - 1][left], 0, leftSize + 1);
+        for (int k = 0; k < size; k++) {
+            field.add(r, k * limbs, other, k * limbs, r, k * limbs);
+        }
+        return r;
+    }
+
+    private void horner(long[] f, int length, int xo, long[] r, int ro) {
+        long[] acc = field.newElements(1);
+        for (int k = length - 1; k >= 0; k--) {
+            field.mul(acc, 0, points, xo, acc, 0);
+            field.add(acc, 0, f, k * limbs, acc, 0);
+        }
+        field.copy(acc, 0, r, ro);
+    }
+
+    /**
+     * Π (x - x_i) over size points starting at from, length size + 1
+     */
+    private long[] linearFactors(int from, int size) {
+        long[] poly = field.newElements(size + 1);
+        long[] term = field.newElements(1);
+        field.fromLong(1, poly, 0);
+        for (int i = 0; i < size; i++) {
+            // poly ← poly · (x - x_i), highest coefficient first so the update is in place
+            int xo = (from + i) * limbs;
+            field.copy(poly, i * limbs, poly, (i + 1) * limbs);
+            for (int k = i; k > 0; k--) {
+                field.mul(poly, k * limbs, points, xo, term, 0);
+                field.sub(poly, (k - 1) * limbs, term, 0, poly, k * limbs);
+            }
+            field.mul(poly, 0, points, xo, term, 0);
+            field.negate(term, 0, poly, 0);
+        }
+        return poly;
+    }
+
+    private long[] inverseOfReversed(long[] m, int degree, int precision) {
+        long[] reversed = PolynomialArithmetic.reverse(field, m, degree + 1);
+        return PolynomialArithmetic.inverseSeries(field, reversed, 0, degree + 1, precision);
+    }
+}